@@ -1,56 +1,84 @@
 package com.saratoga.snd;
 
+import com.saratoga.snd.game.ActionTolerance;
+import com.saratoga.snd.game.EconomyRules;
+import com.saratoga.snd.game.ExplosionSettings;
+import com.saratoga.snd.game.Loadouts;
 import org.bukkit.Material;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
- * Configuration holder for SearchAndDestroy.
+ * Immutable snapshot of config.yml.
+ * A reload builds a new snapshot with a higher version and swaps it in;
+ * running matches keep the snapshot they started with.
  */
-public class Config {
+public final class Config {
 
-    private final SearchAndDestroy plugin;
+    private final long version;
 
     // Round settings
-    private int maxRounds;
-    private int roundsToWin;
-    private int swapSidesAfter;
-    private int roundTimeLimit;
+    private final int maxRounds;
+    private final int roundsToWin;
+    private final int swapSidesAfter;
+    private final int roundTimeLimit;
 
     // Bomb settings
-    private int plantTime;
-    private int defuseTime;
-    private int explosionTime;
-    private Material bombItem;
+    private final int plantTime;
+    private final int defuseTime;
+    private final int explosionTime;
+    private final Material bombItem;
+    private final ActionTolerance actionTolerance;
+    private final ExplosionSettings explosion;
+
+    // Economy and kits
+    private final EconomyRules economy;
+    private final Loadouts loadouts;
 
     // Transition settings
-    private int lobbyWaitTime;
-    private int countdownTime;
+    private final int lobbyWaitTime;
+    private final int countdownTime;
+
+    // Block restoration after a match
+    private final int restoreBlocksPerTick;
 
     // Team names
-    private String redTeamName;
-    private String blueTeamName;
+    private final String redTeamName;
+    private final String blueTeamName;
 
     // Event commands
-    private List<String> gameStartCommands;
-    private List<String> roundStartCommands;
-    private List<String> gameEndCommands;
-    private List<String> playerKillCommands;
+    private final List<String> gameStartCommands;
+    private final List<String> roundStartCommands;
+    private final List<String> gameEndCommands;
+    private final List<String> playerKillCommands;
 
     // Announcement settings
-    private boolean announcementEnabled;
-    private String announcementMessage;
-    private int announcementThreshold;
-
-    public Config(SearchAndDestroy plugin) {
-        this.plugin = plugin;
-        reload();
-    }
-
-    public void reload() {
-        plugin.reloadConfig();
-        FileConfiguration config = plugin.getConfig();
+    private final boolean announcementEnabled;
+    private final String announcementMessage;
+    private final int announcementThreshold;
+
+    /**
+     * Read config.yml with the bundled defaults. Safe off the main thread.
+     */
+    public static Config load(SearchAndDestroy plugin, long version) {
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(
+                new File(plugin.getDataFolder(), "config.yml"));
+        InputStream defaults = plugin.getResource("config.yml");
+        if (defaults != null) {
+            config.setDefaults(YamlConfiguration.loadConfiguration(
+                    new InputStreamReader(defaults, StandardCharsets.UTF_8)));
+        }
+        return new Config(config, version);
+    }
+
+    private Config(FileConfiguration config, long version) {
+        this.version = version;
 
         // Round settings
         this.maxRounds = config.getInt("rounds.max", 12);
@@ -62,23 +90,49 @@ public class Config {
         this.plantTime = config.getInt("bomb.plant-time-seconds", 3);
         this.defuseTime = config.getInt("bomb.defuse-time-seconds", 5);
         this.explosionTime = config.getInt("bomb.explosion-time-seconds", 40);
-        this.bombItem = Material.matchMaterial(config.getString("bomb.item", "TNT"));
-        if (bombItem == null)
-            bombItem = Material.TNT;
+        Material item = Material.matchMaterial(config.getString("bomb.item", "TNT"));
+        this.bombItem = item != null ? item : Material.TNT;
+        this.actionTolerance = new ActionTolerance(
+                config.getDouble("bomb.action.max-move-distance", 1.0),
+                config.getDouble("bomb.action.max-rotation-degrees", 90),
+                config.getDouble("bomb.action.defuse-range", 3.0),
+                config.getDouble("bomb.action.defuse-look-angle", 60),
+                config.getBoolean("bomb.action.defuse-line-of-sight", true));
+        this.explosion = new ExplosionSettings(
+                Math.max(0, config.getDouble("bomb.explosion.radius", 8)),
+                Math.max(0, config.getDouble("bomb.explosion.max-damage", 40)),
+                Math.max(0, config.getInt("bomb.explosion.particles", 60)),
+                config.getBoolean("bomb.explosion.destroy-blocks", false),
+                Math.max(1, config.getInt("bomb.explosion.blocks-per-tick", 2000)),
+                Math.max(1, config.getInt("bomb.explosion.particles-per-tick", 20)));
+
+        // Economy and kits
+        this.economy = new EconomyRules(
+                config.getInt("economy.start-money", 800),
+                config.getInt("economy.max-money", 16000),
+                config.getInt("economy.rewards.kill", 300),
+                config.getInt("economy.rewards.plant", 300),
+                config.getInt("economy.rewards.defuse", 300),
+                config.getInt("economy.rewards.round-win", 3000),
+                config.getInt("economy.rewards.round-loss", 1400));
+        this.loadouts = Loadouts.load(config.getConfigurationSection("loadouts"));
 
         // Transition settings
         this.lobbyWaitTime = config.getInt("transition.lobby-wait-seconds", 5);
         this.countdownTime = config.getInt("transition.countdown-seconds", 3);
 
+        // Block restoration
+        this.restoreBlocksPerTick = Math.max(1, config.getInt("restoration.blocks-per-tick", 500));
+
         // Team names
         this.redTeamName = config.getString("teams.red", "Red Team");
         this.blueTeamName = config.getString("teams.blue", "Blue Team");
 
         // Event commands
-        this.gameStartCommands = config.getStringList("event-commands.game-start");
-        this.roundStartCommands = config.getStringList("event-commands.round-start");
-        this.gameEndCommands = config.getStringList("event-commands.game-end");
-        this.playerKillCommands = config.getStringList("event-commands.player-kill");
+        this.gameStartCommands = List.copyOf(config.getStringList("event-commands.game-start"));
+        this.roundStartCommands = List.copyOf(config.getStringList("event-commands.round-start"));
+        this.gameEndCommands = List.copyOf(config.getStringList("event-commands.game-end"));
+        this.playerKillCommands = List.copyOf(config.getStringList("event-commands.player-kill"));
 
         // Announcement settings
         this.announcementEnabled = config.getBoolean("announcement.enabled", true);
@@ -87,6 +141,13 @@ public class Config {
         this.announcementThreshold = config.getInt("announcement.player-threshold", 0);
     }
 
+    /**
+     * Monotonic snapshot version, bumped on every reload.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public int getMaxRounds() {
         return maxRounds;
     }
@@ -119,6 +180,22 @@ public class Config {
         return bombItem;
     }
 
+    public ActionTolerance getActionTolerance() {
+        return actionTolerance;
+    }
+
+    public ExplosionSettings getExplosion() {
+        return explosion;
+    }
+
+    public EconomyRules getEconomy() {
+        return economy;
+    }
+
+    public Loadouts getLoadouts() {
+        return loadouts;
+    }
+
     public int getLobbyWaitTime() {
         return lobbyWaitTime;
     }
@@ -127,6 +204,10 @@ public class Config {
         return countdownTime;
     }
 
+    public int getRestoreBlocksPerTick() {
+        return restoreBlocksPerTick;
+    }
+
     public String getRedTeamName() {
         return redTeamName;
     }
@@ -0,0 +1,145 @@
+package com.saratoga.snd;
+
+import org.bukkit.Bukkit;
+import org.slf4j.Logger;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plugin-wide executor for disk I/O, running each task on a virtual thread.
+ * The number of queued/running tasks is bounded; when full, submissions fail
+ * fast instead of blocking the calling tick thread.
+ */
+public class IoExecutor {
+
+    private static final int MAX_PENDING = 256;
+    private static final long SLOW_TASK_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final Semaphore permits = new Semaphore(MAX_PENDING);
+    private final Executor globalExecutor;
+
+    // Metrics (latency = queue wait + run time)
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    public IoExecutor(SearchAndDestroy plugin) {
+        this.logger = plugin.getSLF4JLogger();
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("snd-io-", 0).factory());
+        this.globalExecutor = task -> Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    /**
+     * I/O work that may throw.
+     */
+    @FunctionalInterface
+    public interface IoTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * Run an I/O task.
+     */
+    public CompletableFuture<Void> run(String name, IoTask task) {
+        return submit(name, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run an I/O task that produces a result.
+     */
+    public <T> CompletableFuture<T> submit(String name, Callable<T> task) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            logger.warn("I/O queue full, rejected: {}", name);
+            return CompletableFuture.failedFuture(new RejectedExecutionException("I/O queue full: " + name));
+        }
+
+        long queuedAt = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.call());
+                    completed.increment();
+                } catch (Throwable t) {
+                    failed.increment();
+                    logger.warn("I/O task failed: {}", name, t);
+                    future.completeExceptionally(t);
+                } finally {
+                    permits.release();
+                    recordLatency(name, System.nanoTime() - queuedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shut down
+            permits.release();
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future;
+    }
+
+    private void recordLatency(String name, long nanos) {
+        totalLatencyNanos.add(nanos);
+        maxLatencyNanos.accumulate(nanos);
+        if (nanos > SLOW_TASK_NANOS) {
+            logger.warn("Slow I/O task: {} took {} ms", name, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
+    /**
+     * Executor that runs callbacks on the global region (main thread on Paper).
+     */
+    public Executor globalExecutor() {
+        return globalExecutor;
+    }
+
+    /**
+     * Stop accepting tasks and wait for queued ones to finish.
+     */
+    public void shutdown(long timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                logger.warn("I/O tasks still running after {}s, interrupting", timeoutSeconds);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Current metrics.
+     */
+    public Stats getStats() {
+        long done = completed.sum() + failed.sum();
+        double avgMs = done == 0 ? 0 : totalLatencyNanos.sum() / (double) done / 1_000_000.0;
+        return new Stats(completed.sum(), failed.sum(), rejected.sum(),
+                MAX_PENDING - permits.availablePermits(), avgMs, maxLatencyNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Snapshot of executor metrics.
+     */
+    public record Stats(long completed, long failed, long rejected, int inFlight,
+            double avgLatencyMs, double maxLatencyMs) {
+    }
+}
@@ -78,6 +78,8 @@ public final class Messages {
 
         public static final Component NOT_IN_BOMB_SITE = PREFIX.append(
                         Component.text("爆弾サイト内でのみ設置できます。", NamedTextColor.RED));
+        public static final Component MUST_BE_ON_GROUND = PREFIX.append(
+                        Component.text("このサイトでは地面に立って設置してください。", NamedTextColor.RED));
         public static final Component ATTACKERS_ONLY = PREFIX.append(
                         Component.text("攻撃側のみが爆弾を設置できます。", NamedTextColor.RED));
         public static final Component DEFENDERS_ONLY = PREFIX.append(
@@ -102,6 +104,33 @@ public final class Messages {
                 return Component.text(String.format("%d:%02d", min, sec), NamedTextColor.WHITE);
         }
 
+        // Round summary
+        public static Component roundMvp(String name, int kills, int damage) {
+                return PREFIX.append(Component.text("MVP: ", NamedTextColor.GOLD, TextDecoration.BOLD))
+                                .append(Component.text(name + " (" + kills + "キル / " + damage + "ダメージ)",
+                                                NamedTextColor.YELLOW));
+        }
+
+        public static Component roundStats(int kills, int assists, int headshots, int damage) {
+                return Component.text(String.format("このラウンド: %dキル / %dアシスト / %dヘッドショット / %dダメージ",
+                                kills, assists, headshots, damage), NamedTextColor.GRAY);
+        }
+
+        // Economy messages
+        public static final Component BUY_PHASE_ONLY = PREFIX.append(
+                        Component.text("購入はラウンド開始前の待機中のみ可能です。", NamedTextColor.RED));
+        public static final Component NOT_ENOUGH_MONEY = PREFIX.append(
+                        Component.text("所持金が足りません。", NamedTextColor.RED));
+
+        public static Component purchased(String item, int money) {
+                return PREFIX.append(Component.text(item + " を購入しました。", NamedTextColor.GREEN))
+                                .append(Component.text(" (残り $" + money + ")", NamedTextColor.GRAY));
+        }
+
+        public static Component reward(int amount, String reason) {
+                return Component.text("+$" + amount + " " + reason, NamedTextColor.GREEN);
+        }
+
         // Setup messages
         public static final Component SPAWN_SET = PREFIX.append(
                         Component.text("スポーン地点を設定しました。", NamedTextColor.GREEN));
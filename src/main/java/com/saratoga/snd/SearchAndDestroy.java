@@ -2,19 +2,34 @@ package com.saratoga.snd;
 
 import com.saratoga.snd.arena.ArenaManager;
 import com.saratoga.snd.command.SndCommand;
-import com.saratoga.snd.listener.BombListener;
-import com.saratoga.snd.listener.PlayerListener;
-import com.saratoga.snd.listener.ProtectionListener;
+import com.saratoga.snd.event.EventBus;
+import com.saratoga.snd.game.ActionRegistry;
+import com.saratoga.snd.game.EconomyRewards;
+import com.saratoga.snd.game.EventCommandExecutor;
+import com.saratoga.snd.game.GlowColorService;
+import com.saratoga.snd.game.ScoreboardFlusher;
+import com.saratoga.snd.listener.ListenerGate;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Main plugin class for Search and Destroy.
  */
 public final class SearchAndDestroy extends JavaPlugin {
 
     private static SearchAndDestroy instance;
-    private Config config;
+    private final AtomicReference<Config> config = new AtomicReference<>();
+    private final AtomicLong configVersion = new AtomicLong();
     private ArenaManager arenaManager;
+    private EventBus eventBus;
+    private final ActionRegistry actionRegistry = new ActionRegistry();
+    private ListenerGate listenerGate;
+    private ScoreboardFlusher scoreboardFlusher;
+    private GlowColorService glowColors;
+    private IoExecutor ioExecutor;
 
     @Override
     public void onEnable() {
@@ -23,8 +38,25 @@ public final class SearchAndDestroy extends JavaPlugin {
         // Save default config
         saveDefaultConfig();
 
+        // Shared executor for all disk access
+        this.ioExecutor = new IoExecutor(this);
+
         // Load configuration
-        this.config = new Config(this);
+        this.config.set(Config.load(this, configVersion.incrementAndGet()));
+
+        // Plugin-wide event bus (arena buses forward to it)
+        this.eventBus = new EventBus(getSLF4JLogger());
+        new EventCommandExecutor(this).register(eventBus);
+        new EconomyRewards().register(eventBus);
+
+        // Coalesced scoreboard flushes for all arenas
+        this.scoreboardFlusher = new ScoreboardFlusher(this);
+
+        // Shared glow-colour teams
+        this.glowColors = new GlowColorService();
+
+        // Gameplay listeners are registered by the arena manager while arenas have players
+        this.listenerGate = new ListenerGate(this);
 
         // Initialize arena manager
         this.arenaManager = new ArenaManager(this);
@@ -35,11 +67,6 @@ public final class SearchAndDestroy extends JavaPlugin {
         getCommand("snd").setExecutor(commandExecutor);
         getCommand("snd").setTabCompleter(commandExecutor);
 
-        // Register listeners
-        getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
-        getServer().getPluginManager().registerEvents(new BombListener(this), this);
-        getServer().getPluginManager().registerEvents(new ProtectionListener(this), this);
-
         getSLF4JLogger().info("Search and Destroy has been enabled!");
     }
 
@@ -49,18 +76,69 @@ public final class SearchAndDestroy extends JavaPlugin {
         if (arenaManager != null) {
             arenaManager.shutdown();
         }
+        actionRegistry.clear();
+        if (scoreboardFlusher != null) {
+            scoreboardFlusher.shutdown();
+        }
+        if (glowColors != null) {
+            glowColors.shutdown();
+        }
+
+        // Let queued saves finish
+        if (ioExecutor != null) {
+            ioExecutor.shutdown(10);
+        }
 
         getSLF4JLogger().info("Search and Destroy has been disabled.");
     }
 
+    /**
+     * Current config snapshot. Matches pin the snapshot they started with,
+     * so use {@code SndArena.getConfig()} for anything match-related.
+     */
     public Config getMainConfig() {
-        return config;
+        return config.get();
+    }
+
+    /**
+     * Parse config.yml on the I/O executor and swap it in atomically.
+     * A slower, older reload never replaces a newer snapshot.
+     */
+    public CompletableFuture<Config> reloadMainConfig() {
+        long version = configVersion.incrementAndGet();
+        return ioExecutor.submit("load config", () -> Config.load(this, version))
+                .thenApply(next -> config.accumulateAndGet(next,
+                        (current, candidate) -> candidate.getVersion() > current.getVersion() ? candidate : current));
     }
 
     public ArenaManager getArenaManager() {
         return arenaManager;
     }
 
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public ActionRegistry getActionRegistry() {
+        return actionRegistry;
+    }
+
+    public GlowColorService getGlowColors() {
+        return glowColors;
+    }
+
+    public ListenerGate getListenerGate() {
+        return listenerGate;
+    }
+
+    public ScoreboardFlusher getScoreboardFlusher() {
+        return scoreboardFlusher;
+    }
+
+    public IoExecutor getIoExecutor() {
+        return ioExecutor;
+    }
+
     public static SearchAndDestroy getInstance() {
         return instance;
     }
@@ -0,0 +1,101 @@
+package com.saratoga.snd.arena;
+
+import com.saratoga.snd.SearchAndDestroy;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+/**
+ * Plugin chunk tickets over a map's play area while its arena is in use.
+ * Tickets are taken when the countdown starts: every chunk in the map bounds
+ * is loaded asynchronously and pinned once loaded, so round-start teleports
+ * and the bomb spawn never hit an unloaded chunk. They are released when the
+ * arena resets, so idle maps can unload.
+ */
+public class ArenaChunkTickets {
+
+    // Blocks added around the map's points and sites
+    private static final double PADDING = 16;
+    // Refuse to pin absurd areas from a misconfigured map
+    private static final int MAX_CHUNKS = 1024;
+
+    private final SearchAndDestroy plugin;
+    private final SndMap map;
+
+    private World world;
+    private int minX, minZ, maxX, maxZ;
+    private boolean held;
+    // Bumped on release so late async loads don't re-add a ticket
+    private int generation;
+    private int ticketed;
+
+    ArenaChunkTickets(SearchAndDestroy plugin, SndMap map) {
+        this.plugin = plugin;
+        this.map = map;
+    }
+
+    /**
+     * Load and pin the map's chunks. Does nothing if already held.
+     */
+    public void acquire() {
+        if (held)
+            return;
+        World world = Bukkit.getWorld(map.getWorldName());
+        BoundingBox bounds = map.getBounds();
+        if (world == null || bounds == null)
+            return;
+        bounds.expand(PADDING, 0, PADDING);
+
+        int minX = (int) Math.floor(bounds.getMinX()) >> 4;
+        int minZ = (int) Math.floor(bounds.getMinZ()) >> 4;
+        int maxX = (int) Math.floor(bounds.getMaxX()) >> 4;
+        int maxZ = (int) Math.floor(bounds.getMaxZ()) >> 4;
+        long count = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+        if (count > MAX_CHUNKS) {
+            plugin.getSLF4JLogger().warn("Map {} spans {} chunks, not pinning more than {}",
+                    map.getName(), count, MAX_CHUNKS);
+            return;
+        }
+
+        this.world = world;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+        this.held = true;
+        int gen = ++generation;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                world.getChunkAtAsync(x, z).thenAccept(chunk -> {
+                    if (held && generation == gen && chunk.addPluginChunkTicket(plugin)) {
+                        ticketed++;
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Drop all tickets. Does nothing if none are held.
+     */
+    public void release() {
+        if (!held)
+            return;
+        held = false;
+        generation++;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                world.removePluginChunkTicket(x, z, plugin);
+            }
+        }
+        ticketed = 0;
+        world = null;
+    }
+
+    /**
+     * Number of chunks currently pinned.
+     */
+    public int getTicketCount() {
+        return ticketed;
+    }
+}
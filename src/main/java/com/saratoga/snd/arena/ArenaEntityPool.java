@@ -0,0 +1,208 @@
+package com.saratoga.snd.arena;
+
+import com.saratoga.snd.SearchAndDestroy;
+import com.saratoga.snd.game.PlayerData;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reusable entities for one arena: the dropped bomb item, the planted TNT
+ * display and the site markers.
+ * Entities are spawned once per match, non-persistent and hidden by default.
+ * Between uses they are parked (hidden from the arena's players) and on the
+ * next use they are moved into place and shown again. An entity that became
+ * invalid, e.g. because its chunk unloaded, is respawned.
+ */
+public class ArenaEntityPool {
+
+    private final SearchAndDestroy plugin;
+    private final SndArena arena;
+
+    private Item bombItem;
+    private BlockDisplay plantedDisplay;
+    private final Map<String, TextDisplay> markers = new HashMap<>();
+
+    // Entities currently in use and shown to the arena's players
+    private final Set<Entity> active = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    ArenaEntityPool(SearchAndDestroy plugin, SndArena arena) {
+        this.plugin = plugin;
+        this.arena = arena;
+    }
+
+    /**
+     * Place the bomb item at a location and make it pickable.
+     */
+    public Item bombItem(Location loc, ItemStack stack) {
+        if (bombItem == null || !bombItem.isValid()) {
+            if (bombItem != null) {
+                plugin.getGlowColors().release(bombItem);
+            }
+            bombItem = loc.getWorld().dropItem(loc, stack, item -> {
+                prepare(item);
+                item.setUnlimitedLifetime(true);
+                item.setWillAge(false);
+                item.setCanMobPickup(false);
+            });
+            plugin.getGlowColors().assign(bombItem, NamedTextColor.RED);
+        } else {
+            bombItem.setItemStack(stack);
+            bombItem.teleport(loc);
+            bombItem.setGravity(true);
+        }
+        bombItem.setVelocity(new Vector());
+        bombItem.setPickupDelay(0);
+        bombItem.setCanPlayerPickup(true);
+        activate(bombItem);
+        return bombItem;
+    }
+
+    /**
+     * Place the glowing TNT display at the planted location.
+     */
+    public BlockDisplay plantedDisplay(Location loc) {
+        if (plantedDisplay == null || !plantedDisplay.isValid()) {
+            plantedDisplay = loc.getWorld().spawn(loc, BlockDisplay.class, display -> {
+                prepare(display);
+                display.setBlock(Material.TNT.createBlockData());
+                display.setGlowing(true);
+                display.setGlowColorOverride(Color.RED);
+            });
+        } else {
+            plantedDisplay.teleport(loc);
+        }
+        activate(plantedDisplay);
+        return plantedDisplay;
+    }
+
+    /**
+     * Place the marker of a site.
+     */
+    public TextDisplay marker(String siteName, Location loc) {
+        TextDisplay marker = markers.get(siteName);
+        if (marker == null || !marker.isValid()) {
+            marker = loc.getWorld().spawn(loc, TextDisplay.class, display -> {
+                prepare(display);
+                display.setBillboard(Display.Billboard.CENTER);
+                display.setSeeThrough(true);
+                display.setShadowed(true);
+                display.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+            });
+            markers.put(siteName, marker);
+        } else {
+            marker.teleport(loc);
+        }
+        activate(marker);
+        return marker;
+    }
+
+    /**
+     * Hide an entity from the arena's players until it is used again.
+     * Items are also lifted above the build limit, out of reach of hoppers.
+     */
+    public void park(Entity entity) {
+        if (entity == null || !active.remove(entity))
+            return;
+        if (entity instanceof Item item) {
+            item.setCanPlayerPickup(false);
+            item.setCanMobPickup(false);
+            if (item.isValid()) {
+                // Same column keeps it in the same, loaded chunk
+                Location above = item.getLocation();
+                above.setY(item.getWorld().getMaxHeight() + 16);
+                item.setGravity(false);
+                item.setVelocity(new Vector());
+                item.teleport(above);
+            }
+        }
+        if (entity.isValid()) {
+            for (Player player : viewers()) {
+                player.hideEntity(plugin, entity);
+            }
+        }
+    }
+
+    /**
+     * Park every entity in use.
+     */
+    public void parkAll() {
+        for (Entity entity : new ArrayList<>(active)) {
+            park(entity);
+        }
+    }
+
+    /**
+     * Hide all pooled entities from a player leaving the arena.
+     */
+    public void hideFrom(Player player) {
+        for (Entity entity : active) {
+            if (entity.isValid()) {
+                player.hideEntity(plugin, entity);
+            }
+        }
+    }
+
+    /**
+     * Remove all pooled entities. Called when the match ends.
+     */
+    public void dispose() {
+        parkAll();
+        if (bombItem != null) {
+            plugin.getGlowColors().release(bombItem);
+            bombItem.remove();
+            bombItem = null;
+        }
+        if (plantedDisplay != null) {
+            plantedDisplay.remove();
+            plantedDisplay = null;
+        }
+        for (TextDisplay marker : markers.values()) {
+            marker.remove();
+        }
+        markers.clear();
+    }
+
+    /**
+     * Settings shared by all pooled entities.
+     */
+    private void prepare(Entity entity) {
+        entity.setPersistent(false);
+        entity.setVisibleByDefault(false);
+    }
+
+    private void activate(Entity entity) {
+        active.add(entity);
+        for (Player player : viewers()) {
+            player.showEntity(plugin, entity);
+        }
+    }
+
+    private List<Player> viewers() {
+        List<Player> viewers = new ArrayList<>(arena.getPlayers().size());
+        for (PlayerData data : arena.getPlayers().values()) {
+            Player player = data.getPlayer();
+            if (player != null && player.isOnline()) {
+                viewers.add(player);
+            }
+        }
+        return viewers;
+    }
+}
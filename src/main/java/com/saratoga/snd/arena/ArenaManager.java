@@ -1,25 +1,34 @@
 package com.saratoga.snd.arena;
 
 import com.saratoga.snd.SearchAndDestroy;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages all arenas and maps.
+ * Registries are concurrent so they can be read off the main thread, e.g. by
+ * async chat or I/O callbacks.
  */
 public class ArenaManager {
 
     private final SearchAndDestroy plugin;
     private final File mapsFolder;
 
-    private final Map<String, SndMap> maps = new HashMap<>();
-    private final Map<String, SndArena> arenas = new HashMap<>();
+    private final Map<String, SndMap> maps = new ConcurrentHashMap<>();
+    private final Map<String, SndArena> arenas = new ConcurrentHashMap<>();
 
     // Track which arena each player is in
-    private final Map<UUID, SndArena> playerArenas = new HashMap<>();
+    private final Map<UUID, SndArena> playerArenas = new ConcurrentHashMap<>();
+
+    // Participation flag by entity id, so non-participants are rejected
+    // without hashing their UUID
+    private final ParticipantFlags participants = new ParticipantFlags();
 
     public ArenaManager(SearchAndDestroy plugin) {
         this.plugin = plugin;
@@ -30,26 +39,56 @@ public class ArenaManager {
     }
 
     /**
-     * Load all maps from disk.
+     * Load all maps from disk, blocking. Only used at startup.
      */
     public void loadMaps() {
-        maps.clear();
+        applyMaps(readMapFiles());
+    }
+
+    /**
+     * Reread all maps on the I/O executor and swap them in on the main thread.
+     */
+    public CompletableFuture<Void> reloadMaps() {
+        return plugin.getIoExecutor().submit("load maps", this::readMapFiles)
+                .thenAcceptAsync(this::applyMaps, plugin.getIoExecutor().globalExecutor());
+    }
 
+    /**
+     * Read and parse every map file.
+     */
+    private Map<File, YamlConfiguration> readMapFiles() {
+        Map<File, YamlConfiguration> result = new LinkedHashMap<>();
         File[] files = mapsFolder.listFiles((dir, name) -> name.endsWith(".yml"));
         if (files == null)
-            return;
+            return result;
 
         for (File file : files) {
-            SndMap map = SndMap.load(file);
-            maps.put(map.getName().toLowerCase(), map);
+            result.put(file, YamlConfiguration.loadConfiguration(file));
+        }
+        return result;
+    }
+
+    /**
+     * Replace loaded maps with freshly parsed ones, compiling their match profiles.
+     */
+    private void applyMaps(Map<File, YamlConfiguration> files) {
+        // Put the new maps first and drop stale ones after, so readers never see an empty registry
+        Set<String> loaded = new HashSet<>();
+        for (Map.Entry<File, YamlConfiguration> entry : files.entrySet()) {
+            SndMap map = SndMap.load(entry.getKey(), entry.getValue());
+            map.getProfile(plugin.getMainConfig());
+            String key = map.getName().toLowerCase();
+            maps.put(key, map);
+            loaded.add(key);
             plugin.getSLF4JLogger().info("Loaded map: {}", map.getName());
         }
+        maps.keySet().retainAll(loaded);
     }
 
     /**
-     * Create a new map.
+     * Create a new map. The caller is responsible for saving it.
      */
-    public SndMap createMap(String name, String worldName) throws IOException {
+    public SndMap createMap(String name, String worldName) {
         String key = name.toLowerCase();
         if (maps.containsKey(key)) {
             return null; // Already exists
@@ -58,7 +97,6 @@ public class ArenaManager {
         File file = new File(mapsFolder, key + ".yml");
         SndMap map = new SndMap(name, file);
         map.setWorldName(worldName);
-        map.save();
 
         maps.put(key, map);
         return map;
@@ -81,7 +119,12 @@ public class ArenaManager {
 
         // Delete file
         File file = new File(mapsFolder, key + ".yml");
-        return file.delete();
+        plugin.getIoExecutor().run("delete map " + key, () -> {
+            if (!file.delete() && file.exists()) {
+                plugin.getSLF4JLogger().warn("Could not delete map file: {}", file);
+            }
+        });
+        return true;
     }
 
     /**
@@ -106,10 +149,30 @@ public class ArenaManager {
         return arenas.computeIfAbsent(key, k -> new SndArena(plugin, map));
     }
 
+    /**
+     * Get all arenas that have been created.
+     */
+    public Collection<SndArena> getArenas() {
+        return arenas.values();
+    }
+
+    /**
+     * Find the arena whose recorded block changes a block is next to, or null.
+     */
+    public SndArena getArenaChangedNear(Block block) {
+        for (SndArena arena : arenas.values()) {
+            if (arena.getBlockLog().isNear(block))
+                return arena;
+        }
+        return null;
+    }
+
     /**
      * Get arena a player is in.
      */
     public SndArena getPlayerArena(Player player) {
+        if (!participants.get(player.getEntityId()))
+            return null;
         return playerArenas.get(player.getUniqueId());
     }
 
@@ -133,6 +196,8 @@ public class ArenaManager {
         SndArena arena = getOrCreateArena(map);
         if (arena.join(player)) {
             playerArenas.put(player.getUniqueId(), arena);
+            participants.set(player.getEntityId());
+            plugin.getListenerGate().activate();
             return true;
         }
         return false;
@@ -143,9 +208,11 @@ public class ArenaManager {
      */
     public void leaveArena(Player player) {
         SndArena arena = playerArenas.remove(player.getUniqueId());
+        participants.clear(player.getEntityId());
         if (arena != null) {
             arena.leave(player);
         }
+        deactivateListenersIfIdle();
     }
 
     /**
@@ -154,24 +221,61 @@ public class ArenaManager {
      */
     public void removePlayerFromArenaTracking(UUID playerId) {
         playerArenas.remove(playerId);
+        clearParticipant(playerId);
+        deactivateListenersIfIdle();
     }
 
     /**
      * Remove all players from arena tracking for a specific arena.
      */
     public void clearArenaPlayers(SndArena arena) {
-        playerArenas.entrySet().removeIf(entry -> entry.getValue() == arena);
+        playerArenas.entrySet().removeIf(entry -> {
+            if (entry.getValue() != arena)
+                return false;
+            clearParticipant(entry.getKey());
+            return true;
+        });
+        deactivateListenersIfIdle();
+    }
+
+    /**
+     * Clear the participation flag of an online player.
+     */
+    private void clearParticipant(UUID playerId) {
+        Player player = plugin.getServer().getPlayer(playerId);
+        if (player != null) {
+            participants.clear(player.getEntityId());
+        }
+    }
+
+    /**
+     * Unregister gameplay listeners once no arena has players.
+     */
+    private void deactivateListenersIfIdle() {
+        if (playerArenas.isEmpty()) {
+            plugin.getListenerGate().deactivate();
+        }
     }
 
     /**
      * Shutdown all arenas.
      */
     public void shutdown() {
-        for (SndArena arena : arenas.values()) {
-            arena.endGame();
+        try {
+            for (SndArena arena : arenas.values()) {
+                try {
+                    arena.shutdown();
+                } catch (RuntimeException e) {
+                    // Keep going so the other arenas still get their blocks back
+                    plugin.getSLF4JLogger().error("Failed to shut down arena {}", arena.getMap().getName(), e);
+                }
+            }
+        } finally {
+            arenas.clear();
+            playerArenas.clear();
+            participants.clearAll();
+            plugin.getListenerGate().deactivate();
         }
-        arenas.clear();
-        playerArenas.clear();
     }
 
     /**
@@ -185,7 +289,7 @@ public class ArenaManager {
      * Check if player is in any arena.
      */
     public boolean isInArena(Player player) {
-        return playerArenas.containsKey(player.getUniqueId());
+        return participants.get(player.getEntityId());
     }
 
     /**
@@ -0,0 +1,98 @@
+package com.saratoga.snd.arena;
+
+import com.saratoga.snd.SearchAndDestroy;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules arena work on the main thread.
+ * Every task is tracked as part of the arena's task group, which is cancelled
+ * as a whole when the arena resets so no stale callback reaches the next match.
+ */
+public class ArenaScheduler {
+
+    private final SearchAndDestroy plugin;
+
+    // Task group: tasks that may still run
+    private final Set<BukkitTask> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong scheduledCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+
+    public ArenaScheduler(SearchAndDestroy plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Run a task on the next tick.
+     */
+    public BukkitTask run(Runnable task) {
+        return track(plugin.getServer().getScheduler().runTask(plugin, task));
+    }
+
+    /**
+     * Run a task after a delay.
+     */
+    public BukkitTask runLater(Runnable task, long delayTicks) {
+        return track(plugin.getServer().getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+
+    /**
+     * Run a task repeatedly.
+     */
+    public BukkitTask runTimer(Runnable task, long delayTicks, long periodTicks) {
+        return track(plugin.getServer().getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks));
+    }
+
+    /**
+     * Add a task to the group, dropping tasks that already ran.
+     */
+    private BukkitTask track(BukkitTask task) {
+        scheduledCount.incrementAndGet();
+        pending.removeIf(ArenaScheduler::isDone);
+        pending.add(task);
+        return task;
+    }
+
+    /**
+     * Cancel every task in the group. Called when the arena resets.
+     *
+     * @return number of tasks that were still waiting to run
+     */
+    public int cancelAll() {
+        int cancelled = 0;
+        for (BukkitTask task : pending) {
+            if (!isDone(task)) {
+                cancelled++;
+            }
+            task.cancel();
+        }
+        pending.clear();
+        cancelledCount.addAndGet(cancelled);
+        return cancelled;
+    }
+
+    /**
+     * Tasks in the group that may still run.
+     */
+    public int getPendingCount() {
+        pending.removeIf(ArenaScheduler::isDone);
+        return pending.size();
+    }
+
+    public long getScheduledCount() {
+        return scheduledCount.get();
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount.get();
+    }
+
+    private static boolean isDone(BukkitTask task) {
+        return task.isCancelled() || !Bukkit.getScheduler().isQueued(task.getTaskId())
+                && !Bukkit.getScheduler().isCurrentlyRunning(task.getTaskId());
+    }
+}
@@ -0,0 +1,137 @@
+package com.saratoga.snd.arena;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Original state of every block changed in an arena during a match, grouped
+ * by chunk. Only the first change of a block is kept, so restoring puts back
+ * the pre-match block no matter how often it changed. Restoring runs a chunk
+ * at a time under a per-call budget, so it can be spread over many ticks.
+ * Only block data is kept; container contents and other block entity data
+ * are not, so destructible blocks should be plain blocks.
+ */
+public class BlockChangeLog {
+
+    // Chunk key -> packed position within the chunk -> original block
+    private final Map<Long, Map<Integer, BlockData>> chunks = new LinkedHashMap<>();
+    private World world;
+    private int size;
+
+    /**
+     * Remember a block before it changes.
+     */
+    public void record(Block block) {
+        record(block, block.getBlockData());
+    }
+
+    /**
+     * Remember a block's state from before a change that already happened.
+     */
+    public void record(Block block, BlockData original) {
+        if (world == null) {
+            world = block.getWorld();
+        } else if (world != block.getWorld()) {
+            return;
+        }
+        Map<Integer, BlockData> delta = chunks.computeIfAbsent(
+                chunkKey(block.getX() >> 4, block.getZ() >> 4), key -> new HashMap<>());
+        if (delta.putIfAbsent(pack(block.getX(), block.getY(), block.getZ()), original) == null) {
+            size++;
+        }
+    }
+
+    /**
+     * Put back up to {@code budget} blocks, finishing one chunk before
+     * starting the next. Physics is not applied, so restoring a block never
+     * changes its neighbours.
+     *
+     * @return true once nothing is left to restore
+     */
+    public boolean restore(int budget) {
+        Iterator<Map.Entry<Long, Map<Integer, BlockData>>> chunkIt = chunks.entrySet().iterator();
+        while (budget > 0 && chunkIt.hasNext()) {
+            Map.Entry<Long, Map<Integer, BlockData>> chunk = chunkIt.next();
+            int baseX = (int) (chunk.getKey() >> 32) << 4;
+            int baseZ = chunk.getKey().intValue() << 4;
+            Iterator<Map.Entry<Integer, BlockData>> it = chunk.getValue().entrySet().iterator();
+            while (budget > 0 && it.hasNext()) {
+                Map.Entry<Integer, BlockData> entry = it.next();
+                int packed = entry.getKey();
+                world.getBlockAt(baseX + (packed & 15), packed >> 8, baseZ + ((packed >> 4) & 15))
+                        .setBlockData(entry.getValue(), false);
+                it.remove();
+                size--;
+                budget--;
+            }
+            if (chunk.getValue().isEmpty()) {
+                chunkIt.remove();
+            }
+        }
+        if (chunks.isEmpty()) {
+            world = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Put back everything at once, e.g. on shutdown.
+     */
+    public void restoreAll() {
+        restore(Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check if a block lies in or next to a chunk with recorded changes, i.e.
+     * close enough to be a side effect of them (physics, falling blocks,
+     * flowing fluids). Recording side effects extends the area, so chains
+     * are followed.
+     */
+    public boolean isNear(Block block) {
+        if (size == 0 || world != block.getWorld())
+            return false;
+        int chunkX = block.getX() >> 4;
+        int chunkZ = block.getZ() >> 4;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (chunks.containsKey(chunkKey(chunkX + dx, chunkZ + dz)))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of blocks waiting to be restored.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of chunks with changed blocks.
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // x and z within the chunk in the low byte, y (may be negative) above
+    private static int pack(int x, int y, int z) {
+        return (y << 8) | ((z & 15) << 4) | (x & 15);
+    }
+}
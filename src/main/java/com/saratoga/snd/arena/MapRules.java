@@ -0,0 +1,59 @@
+package com.saratoga.snd.arena;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Per-map overrides from the {@code rules:} section of a map file.
+ * A null value means "use the global config".
+ */
+public record MapRules(
+        Integer maxRounds,
+        Integer roundsToWin,
+        Integer swapSidesAfter,
+        Integer roundTimeLimit,
+        Integer plantTime,
+        Integer defuseTime,
+        Integer explosionTime,
+        Integer lobbyWaitTime) {
+
+    public static final MapRules NONE = new MapRules(null, null, null, null, null, null, null, null);
+
+    /**
+     * Read overrides from a {@code rules:} section, which may be null.
+     */
+    public static MapRules load(ConfigurationSection section) {
+        if (section == null)
+            return NONE;
+        return new MapRules(
+                getInt(section, "max-rounds"),
+                getInt(section, "rounds-to-win"),
+                getInt(section, "swap-sides-after"),
+                getInt(section, "time-limit-seconds"),
+                getInt(section, "plant-time-seconds"),
+                getInt(section, "defuse-time-seconds"),
+                getInt(section, "explosion-time-seconds"),
+                getInt(section, "lobby-wait-seconds"));
+    }
+
+    /**
+     * Write the set overrides back into a {@code rules:} section.
+     */
+    public void save(ConfigurationSection section) {
+        section.set("max-rounds", maxRounds);
+        section.set("rounds-to-win", roundsToWin);
+        section.set("swap-sides-after", swapSidesAfter);
+        section.set("time-limit-seconds", roundTimeLimit);
+        section.set("plant-time-seconds", plantTime);
+        section.set("defuse-time-seconds", defuseTime);
+        section.set("explosion-time-seconds", explosionTime);
+        section.set("lobby-wait-seconds", lobbyWaitTime);
+    }
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+    private static Integer getInt(ConfigurationSection section, String key) {
+        return section.isInt(key) ? section.getInt(key) : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.saratoga.snd.arena;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe set of participant entity ids.
+ * Kept as a sorted copy-on-write array, so its size follows the number of
+ * participants rather than the server's ever-growing entity ids. Reads are
+ * lock-free (one binary search over a few ints) so listeners on any thread
+ * can check membership; writes (join/leave) are rare and synchronized.
+ */
+final class ParticipantFlags {
+
+    private static final int[] EMPTY = new int[0];
+
+    private volatile int[] ids = EMPTY;
+
+    boolean get(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    synchronized void set(int id) {
+        int[] current = ids;
+        int index = Arrays.binarySearch(current, id);
+        if (index >= 0)
+            return;
+        int insert = -index - 1;
+        int[] next = new int[current.length + 1];
+        System.arraycopy(current, 0, next, 0, insert);
+        next[insert] = id;
+        System.arraycopy(current, insert, next, insert + 1, current.length - insert);
+        ids = next;
+    }
+
+    synchronized void clear(int id) {
+        int[] current = ids;
+        int index = Arrays.binarySearch(current, id);
+        if (index < 0)
+            return;
+        int[] next = new int[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        ids = next;
+    }
+
+    synchronized void clearAll() {
+        ids = EMPTY;
+    }
+}
@@ -0,0 +1,75 @@
+package com.saratoga.snd.arena;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable chunk-keyed lookup of bomb sites.
+ * A lookup only tests the sites overlapping the player's chunk, usually one.
+ */
+final class SiteIndex {
+
+    static final SiteIndex EMPTY = new SiteIndex(null, Map.of());
+
+    private final World world;
+    private final Map<Long, SndMap.BombSite[]> byChunk;
+
+    private SiteIndex(World world, Map<Long, SndMap.BombSite[]> byChunk) {
+        this.world = world;
+        this.byChunk = byChunk;
+    }
+
+    static SiteIndex build(Collection<SndMap.BombSite> sites) {
+        if (sites.isEmpty())
+            return EMPTY;
+
+        World world = null;
+        Map<Long, List<SndMap.BombSite>> lists = new HashMap<>();
+        for (SndMap.BombSite site : sites) {
+            world = site.world();
+            BoundingBox bounds = site.shape().bounds();
+            int minX = (int) Math.floor(bounds.getMinX()) >> 4;
+            int maxX = (int) Math.floor(bounds.getMaxX()) >> 4;
+            int minZ = (int) Math.floor(bounds.getMinZ()) >> 4;
+            int maxZ = (int) Math.floor(bounds.getMaxZ()) >> 4;
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    lists.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>(1)).add(site);
+                }
+            }
+        }
+
+        Map<Long, SndMap.BombSite[]> byChunk = new HashMap<>(lists.size());
+        for (Map.Entry<Long, List<SndMap.BombSite>> entry : lists.entrySet()) {
+            byChunk.put(entry.getKey(), entry.getValue().toArray(SndMap.BombSite[]::new));
+        }
+        return new SiteIndex(world, byChunk);
+    }
+
+    /**
+     * Site containing the location, or null.
+     */
+    SndMap.BombSite find(Location loc) {
+        if (world == null || !world.equals(loc.getWorld()))
+            return null;
+        SndMap.BombSite[] candidates = byChunk.get(chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4));
+        if (candidates == null)
+            return null;
+        for (SndMap.BombSite site : candidates) {
+            if (site.shape().contains(loc.getX(), loc.getY(), loc.getZ()))
+                return site;
+        }
+        return null;
+    }
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,221 @@
+package com.saratoga.snd.arena;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Area covered by a bomb site, in world coordinates.
+ */
+public sealed interface SiteShape permits SiteShape.Sphere, SiteShape.Box, SiteShape.Prism {
+
+    boolean contains(double x, double y, double z);
+
+    /**
+     * Axis-aligned bounds, used to index the site by chunk.
+     */
+    BoundingBox bounds();
+
+    /**
+     * Foot point of the site, where its marker is shown.
+     */
+    Vector center();
+
+    void save(ConfigurationSection section);
+
+    /**
+     * Read a shape from a site section. Sections without a {@code shape} key are
+     * treated as the old x/y/z/radius sphere. Returns null for invalid shapes.
+     */
+    static SiteShape load(ConfigurationSection section) {
+        String type = section.getString("shape", "sphere").toLowerCase();
+        return switch (type) {
+            case "box" -> Box.load(section);
+            case "prism" -> Prism.load(section);
+            default -> new Sphere(section.getDouble("x"), section.getDouble("y"), section.getDouble("z"),
+                    section.getDouble("radius", 5.0));
+        };
+    }
+
+    /**
+     * Ball around a point.
+     */
+    record Sphere(double x, double y, double z, double radius) implements SiteShape {
+        @Override
+        public boolean contains(double px, double py, double pz) {
+            double dx = px - x, dy = py - y, dz = pz - z;
+            return dx * dx + dy * dy + dz * dz <= radius * radius;
+        }
+
+        @Override
+        public BoundingBox bounds() {
+            return new BoundingBox(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius);
+        }
+
+        @Override
+        public Vector center() {
+            return new Vector(x, y, z);
+        }
+
+        @Override
+        public void save(ConfigurationSection section) {
+            section.set("shape", "sphere");
+            section.set("x", x);
+            section.set("y", y);
+            section.set("z", z);
+            section.set("radius", radius);
+        }
+    }
+
+    /**
+     * Axis-aligned box between two corners.
+     */
+    record Box(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) implements SiteShape {
+        static Box load(ConfigurationSection section) {
+            ConfigurationSection min = section.getConfigurationSection("min");
+            ConfigurationSection max = section.getConfigurationSection("max");
+            if (min == null || max == null)
+                return null;
+            BoundingBox box = new BoundingBox(min.getDouble("x"), min.getDouble("y"), min.getDouble("z"),
+                    max.getDouble("x"), max.getDouble("y"), max.getDouble("z"));
+            return new Box(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ());
+        }
+
+        @Override
+        public boolean contains(double x, double y, double z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        @Override
+        public BoundingBox bounds() {
+            return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+        }
+
+        @Override
+        public Vector center() {
+            return new Vector((minX + maxX) / 2, minY, (minZ + maxZ) / 2);
+        }
+
+        @Override
+        public void save(ConfigurationSection section) {
+            section.set("shape", "box");
+            ConfigurationSection min = section.createSection("min");
+            min.set("x", minX);
+            min.set("y", minY);
+            min.set("z", minZ);
+            ConfigurationSection max = section.createSection("max");
+            max.set("x", maxX);
+            max.set("y", maxY);
+            max.set("z", maxZ);
+        }
+    }
+
+    /**
+     * Polygon on the X/Z plane extruded between two heights.
+     * Points are stored as "x,z" strings. The coordinate arrays are kept
+     * flat for {@link #contains}; equality compares their contents.
+     */
+    record Prism(double[] xs, double[] zs, double minY, double maxY) implements SiteShape {
+        public Prism {
+            xs = xs.clone();
+            zs = zs.clone();
+        }
+
+        static Prism load(ConfigurationSection section) {
+            List<String> points = section.getStringList("points");
+            if (points.size() < 3)
+                return null;
+            double[] xs = new double[points.size()];
+            double[] zs = new double[points.size()];
+            for (int i = 0; i < points.size(); i++) {
+                String[] parts = points.get(i).split(",");
+                if (parts.length != 2)
+                    return null;
+                try {
+                    xs[i] = Double.parseDouble(parts[0].trim());
+                    zs[i] = Double.parseDouble(parts[1].trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            double minY = section.getDouble("min-y");
+            double maxY = section.getDouble("max-y", minY + 3);
+            return new Prism(xs, zs, Math.min(minY, maxY), Math.max(minY, maxY));
+        }
+
+        @Override
+        public boolean contains(double x, double y, double z) {
+            if (y < minY || y > maxY)
+                return false;
+            // Even-odd ray cast along +X
+            boolean inside = false;
+            for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                if ((zs[i] > z) != (zs[j] > z)
+                        && x < (xs[j] - xs[i]) * (z - zs[i]) / (zs[j] - zs[i]) + xs[i]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+
+        @Override
+        public BoundingBox bounds() {
+            double minX = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+            double maxX = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+            for (int i = 0; i < xs.length; i++) {
+                minX = Math.min(minX, xs[i]);
+                maxX = Math.max(maxX, xs[i]);
+                minZ = Math.min(minZ, zs[i]);
+                maxZ = Math.max(maxZ, zs[i]);
+            }
+            return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+        }
+
+        @Override
+        public Vector center() {
+            double x = 0, z = 0;
+            for (int i = 0; i < xs.length; i++) {
+                x += xs[i];
+                z += zs[i];
+            }
+            return new Vector(x / xs.length, minY, z / xs.length);
+        }
+
+        @Override
+        public void save(ConfigurationSection section) {
+            section.set("shape", "prism");
+            List<String> points = new ArrayList<>(xs.length);
+            for (int i = 0; i < xs.length; i++) {
+                points.add(xs[i] + "," + zs[i]);
+            }
+            section.set("points", points);
+            section.set("min-y", minY);
+            section.set("max-y", maxY);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Prism other
+                    && Arrays.equals(xs, other.xs) && Arrays.equals(zs, other.zs)
+                    && Double.compare(minY, other.minY) == 0 && Double.compare(maxY, other.maxY) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Arrays.hashCode(xs);
+            result = 31 * result + Arrays.hashCode(zs);
+            result = 31 * result + Double.hashCode(minY);
+            return 31 * result + Double.hashCode(maxY);
+        }
+
+        @Override
+        public String toString() {
+            return "Prism[xs=" + Arrays.toString(xs) + ", zs=" + Arrays.toString(zs)
+                    + ", minY=" + minY + ", maxY=" + maxY + "]";
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.saratoga.snd.arena;
 
+import com.saratoga.snd.Config;
 import com.saratoga.snd.Messages;
 import com.saratoga.snd.SearchAndDestroy;
+import com.saratoga.snd.event.AliveCountChangeEvent;
+import com.saratoga.snd.event.EventBus;
+import com.saratoga.snd.event.MatchEndEvent;
+import com.saratoga.snd.game.GameClock;
 import com.saratoga.snd.game.GameManager;
+import com.saratoga.snd.game.MatchProfile;
 import com.saratoga.snd.game.PlayerData;
+import com.saratoga.snd.game.PlayerSlots;
 import com.saratoga.snd.game.ScoreboardManager;
 import com.saratoga.snd.game.Team;
 import net.kyori.adventure.text.Component;
@@ -15,6 +22,7 @@ import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
@@ -30,6 +38,8 @@ public class SndArena {
     // Players
     private final Map<UUID, PlayerData> players = new HashMap<>();
     private final Map<UUID, SavedPlayerState> savedStates = new HashMap<>();
+    // Dense per-slot player table; the UUID map above is for event lookups
+    private final PlayerSlots slots;
 
     // Game manager (created when game starts)
     private GameManager gameManager;
@@ -37,16 +47,42 @@ public class SndArena {
     // Scoreboard manager
     private ScoreboardManager scoreboardManager;
 
+    // Internal state-change events for this arena
+    private final EventBus eventBus;
+
+    // All arena tasks, cancelled together on reset
+    private final ArenaScheduler scheduler;
+    private BukkitTask tickTask;
+
+    // Time source for round, explosion and plant/defuse deadlines
+    private final GameClock clock = GameClock.SYSTEM;
+
+    // Bomb, TNT display and marker entities reused across rounds
+    private final ArenaEntityPool entityPool;
+
+    // Map chunks pinned from countdown until reset
+    private final ArenaChunkTickets chunkTickets;
+
+    // Blocks changed during the match, put back after it
+    private final BlockChangeLog blockLog = new BlockChangeLog();
+    private BukkitTask restoreTask;
+
     public SndArena(SearchAndDestroy plugin, SndMap map) {
         this.plugin = plugin;
         this.map = map;
+        this.eventBus = new EventBus(plugin.getSLF4JLogger(), plugin.getEventBus());
+        this.scheduler = new ArenaScheduler(plugin);
+        this.entityPool = new ArenaEntityPool(plugin, this);
+        this.chunkTickets = new ArenaChunkTickets(plugin, map);
+        this.slots = new PlayerSlots(map.getMaxPlayers());
     }
 
     /**
      * Player joins this arena.
      */
     public boolean join(Player player) {
-        if (players.size() >= map.getMaxPlayers()) {
+        // The slot table is sized to the map's max players
+        if (slots.isFull()) {
             Messages.send(player, Messages.GAME_FULL);
             return false;
         }
@@ -71,11 +107,11 @@ public class SndArena {
 
         // Teleport to lobby
         if (map.getLobbySpawn() != null) {
-            player.teleport(map.getLobbySpawn());
+            player.teleportAsync(map.getLobbySpawn());
         }
 
         // Create player data
-        PlayerData data = new PlayerData(player);
+        PlayerData data = slots.add(player);
         players.put(player.getUniqueId(), data);
 
         // Broadcast join message
@@ -96,6 +132,11 @@ public class SndArena {
         return true;
     }
 
+    private void clearPlayers() {
+        players.clear();
+        slots.clear();
+    }
+
     /**
      * Player leaves this arena.
      */
@@ -114,6 +155,7 @@ public class SndArena {
 
         // NOW remove from map
         players.remove(player.getUniqueId());
+        slots.remove(data);
 
         // Remove from arena manager tracking
         plugin.getArenaManager().removePlayerFromArenaTracking(player.getUniqueId());
@@ -130,6 +172,7 @@ public class SndArena {
 
         // Check team count AFTER removing
         if (state == ArenaState.PLAYING || state == ArenaState.INTERMISSION) {
+            eventBus.publish(new AliveCountChangeEvent(this));
             checkTeamCountAfterLeave(leavingTeam);
         }
     }
@@ -138,25 +181,25 @@ public class SndArena {
      * Check if a team has no players after someone leaves.
      */
     private void checkTeamCountAfterLeave(Team leavingTeam) {
-        List<PlayerData> redPlayers = getPlayersOnTeam(Team.RED);
-        List<PlayerData> bluePlayers = getPlayersOnTeam(Team.BLUE);
+        int redPlayers = countOnTeam(Team.RED);
+        int bluePlayers = countOnTeam(Team.BLUE);
 
-        if (redPlayers.isEmpty() && bluePlayers.isEmpty()) {
+        if (redPlayers == 0 && bluePlayers == 0) {
             // Everyone left
             forceEndGame();
-        } else if (redPlayers.isEmpty()) {
+        } else if (redPlayers == 0) {
             // Red team empty - Blue wins
             broadcast(Messages.PREFIX.append(
                     net.kyori.adventure.text.Component.text(
-                            plugin.getMainConfig().getRedTeamName() + "が退出。" + plugin.getMainConfig().getBlueTeamName()
+                            getConfig().getRedTeamName() + "が退出。" + getConfig().getBlueTeamName()
                                     + "の勝利！",
                             net.kyori.adventure.text.format.NamedTextColor.GOLD)));
             forceEndGameWithWinner(Team.BLUE);
-        } else if (bluePlayers.isEmpty()) {
+        } else if (bluePlayers == 0) {
             // Blue team empty - Red wins
             broadcast(Messages.PREFIX.append(
                     net.kyori.adventure.text.Component.text(
-                            plugin.getMainConfig().getBlueTeamName() + "が退出。" + plugin.getMainConfig().getRedTeamName()
+                            getConfig().getBlueTeamName() + "が退出。" + getConfig().getRedTeamName()
                                     + "の勝利！",
                             net.kyori.adventure.text.format.NamedTextColor.GOLD)));
             forceEndGameWithWinner(Team.RED);
@@ -173,6 +216,8 @@ public class SndArena {
         // Cleanup game manager first (stops timers, removes bomb/markers)
         if (gameManager != null) {
             gameManager.cleanup();
+            eventBus.publish(new MatchEndEvent(this, null,
+                    gameManager.getRedScore(), gameManager.getBlueScore(), true));
         }
 
         // Restore any remaining players
@@ -185,7 +230,7 @@ public class SndArena {
                 }
             }
         }
-        players.clear();
+        clearPlayers();
         savedStates.clear();
 
         // Clear arena manager tracking
@@ -206,12 +251,16 @@ public class SndArena {
             gameManager.cleanup();
         }
 
-        String winnerName = winner == Team.RED ? plugin.getMainConfig().getRedTeamName()
-                : plugin.getMainConfig().getBlueTeamName();
+        Config config = getConfig();
+        String winnerName = winner == Team.RED ? config.getRedTeamName() : config.getBlueTeamName();
         broadcast(Messages.matchWin(winnerName));
+        if (gameManager != null) {
+            eventBus.publish(new MatchEndEvent(this, winner,
+                    gameManager.getRedScore(), gameManager.getBlueScore(), true));
+        }
 
         // Return all players after a short delay
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        scheduler.runLater(() -> {
             for (java.util.UUID uuid : new java.util.HashSet<>(players.keySet())) {
                 Player p = plugin.getServer().getPlayer(uuid);
                 if (p != null) {
@@ -222,7 +271,7 @@ public class SndArena {
                     }
                 }
             }
-            players.clear();
+            clearPlayers();
             // Clear arena manager tracking
             plugin.getArenaManager().clearArenaPlayers(this);
             reset();
@@ -233,8 +282,8 @@ public class SndArena {
      * Assign player to a team (balances teams).
      */
     private void assignTeam(PlayerData data) {
-        long redCount = players.values().stream().filter(p -> p.getTeam() == Team.RED).count();
-        long blueCount = players.values().stream().filter(p -> p.getTeam() == Team.BLUE).count();
+        int redCount = slots.count(Team.RED);
+        int blueCount = slots.count(Team.BLUE);
 
         if (redCount <= blueCount) {
             data.setTeam(Team.RED);
@@ -247,7 +296,8 @@ public class SndArena {
      * Check if we have enough players to start.
      */
     private void checkStart() {
-        if (state != ArenaState.WAITING)
+        // A new match waits until the last one's blocks are back
+        if (state != ArenaState.WAITING || restoreTask != null)
             return;
         if (players.size() >= map.getMinPlayers()) {
             startCountdown();
@@ -259,6 +309,7 @@ public class SndArena {
      */
     private void startCountdown() {
         state = ArenaState.COUNTDOWN;
+        chunkTickets.acquire();
         int countdown = plugin.getMainConfig().getCountdownTime();
 
         broadcast(Messages.PREFIX.append(
@@ -266,7 +317,7 @@ public class SndArena {
                         net.kyori.adventure.text.format.NamedTextColor.GREEN)));
 
         // Countdown task
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        scheduler.runLater(() -> {
             if (state == ArenaState.COUNTDOWN) {
                 startGame();
             }
@@ -279,6 +330,7 @@ public class SndArena {
     public void startGame() {
         if (players.size() < map.getMinPlayers()) {
             state = ArenaState.WAITING;
+            chunkTickets.release();
             broadcast(Messages.PREFIX.append(
                     net.kyori.adventure.text.Component.text("プレイヤー不足のため試合を開始できません。",
                             net.kyori.adventure.text.format.NamedTextColor.RED)));
@@ -291,6 +343,9 @@ public class SndArena {
         scoreboardManager = new ScoreboardManager(plugin, this);
         scoreboardManager.start();
 
+        // Per-tick arena work (timers, plant/defuse progress)
+        tickTask = scheduler.runTimer(this::tick, 1L, 1L);
+
         gameManager.startMatch();
     }
 
@@ -306,47 +361,117 @@ public class SndArena {
         }
 
         // Return all players to their saved location after a delay
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            // Restore all players (don't use leave() as it broadcasts messages)
-            for (UUID uuid : new HashSet<>(players.keySet())) {
-                Player player = plugin.getServer().getPlayer(uuid);
-                if (player != null) {
-                    SavedPlayerState saved = savedStates.remove(uuid);
-                    if (saved != null) {
-                        saved.restore(player);
-                    }
+        scheduler.runLater(() -> {
+            restorePlayers();
+            reset();
+        }, 100L); // 5 seconds
+    }
+
+    /**
+     * Stop at once on plugin disable, when no task can be scheduled any more.
+     * Blocks go back first so a failure further on can't leave the map changed.
+     */
+    public void shutdown() {
+        state = ArenaState.ENDING;
+        try {
+            blockLog.restoreAll();
+        } finally {
+            try {
+                if (gameManager != null) {
+                    gameManager.cleanup();
                 }
+                restorePlayers();
+            } finally {
+                // Nothing left to restore, so this releases the tickets instead of scheduling
+                reset();
             }
-            players.clear();
+        }
+    }
 
-            // Clear arena manager tracking - THIS WAS MISSING
-            plugin.getArenaManager().clearArenaPlayers(this);
+    /**
+     * Put every player back in their saved state and drop them from the arena.
+     */
+    private void restorePlayers() {
+        // Don't use leave() as it broadcasts messages
+        for (UUID uuid : new HashSet<>(players.keySet())) {
+            Player player = plugin.getServer().getPlayer(uuid);
+            if (player != null) {
+                SavedPlayerState saved = savedStates.remove(uuid);
+                if (saved != null) {
+                    saved.restore(player);
+                }
+            }
+        }
+        clearPlayers();
 
-            reset();
-        }, 100L); // 5 seconds
+        // Clear arena manager tracking
+        plugin.getArenaManager().clearArenaPlayers(this);
     }
 
     /**
      * Reset arena to waiting state.
      */
     public void reset() {
+        // Drop every pending arena task (countdowns, round starts, the tick task...)
+        int cancelled = scheduler.cancelAll();
+        if (cancelled > 0) {
+            plugin.getSLF4JLogger().debug("Cancelled {} pending tasks on reset of {}", cancelled, map.getName());
+        }
+        tickTask = null;
+
         // Stop scoreboard
         if (scoreboardManager != null) {
             scoreboardManager.stop();
             scoreboardManager = null;
         }
 
+        entityPool.dispose();
+        restoreTask = null;
+        if (blockLog.isEmpty()) {
+            chunkTickets.release();
+        } else {
+            startRestore();
+        }
+
         state = ArenaState.WAITING;
         gameManager = null;
         // Note: players map is cleared via leave()
     }
 
+    /**
+     * Put back changed blocks a budget per tick, keeping the map chunks
+     * pinned until done, then start a waiting match if possible.
+     */
+    private void startRestore() {
+        int budget = plugin.getMainConfig().getRestoreBlocksPerTick();
+        plugin.getSLF4JLogger().debug("Restoring {} blocks in {} chunks of {}",
+                blockLog.size(), blockLog.getChunkCount(), map.getName());
+        restoreTask = scheduler.runTimer(() -> {
+            if (!blockLog.restore(budget))
+                return;
+            restoreTask.cancel();
+            restoreTask = null;
+            chunkTickets.release();
+            checkStart();
+        }, 1L, 1L);
+    }
+
+    /**
+     * Per-tick arena update.
+     */
+    private void tick() {
+        plugin.getActionRegistry().tick(this);
+        if (gameManager != null) {
+            gameManager.tick();
+        }
+    }
+
     /**
      * Broadcast message to all players in arena.
      */
     public void broadcast(net.kyori.adventure.text.Component message) {
-        for (UUID uuid : players.keySet()) {
-            Player player = plugin.getServer().getPlayer(uuid);
+        for (int slot = 0; slot < slots.capacity(); slot++) {
+            Player player = slots.getPlayer(slot);
             if (player != null) {
                 player.sendMessage(message);
             }
@@ -382,44 +507,24 @@ public class SndArena {
         }
     }
 
-    /**
-     * Teleport all players to their spawn points based on role.
-     */
-    public void teleportToSpawns() {
-        if (gameManager == null)
-            return;
-
-        for (PlayerData data : players.values()) {
-            Player player = data.getPlayer();
-            if (player == null || !player.isOnline())
-                continue;
+    // Getters
+    public SearchAndDestroy getPlugin() {
+        return plugin;
+    }
 
-            Location spawn = gameManager.getSpawnForPlayer(data);
-            if (spawn != null) {
-                player.teleport(spawn);
-            }
-        }
+    public BlockChangeLog getBlockLog() {
+        return blockLog;
     }
 
     /**
-     * Teleport all players to lobby.
+     * Whether blocks from the last match are still being put back.
      */
-    public void teleportToLobby() {
-        Location lobby = map.getLobbySpawn();
-        if (lobby == null)
-            return;
-
-        for (PlayerData data : players.values()) {
-            Player player = data.getPlayer();
-            if (player != null && player.isOnline()) {
-                player.teleport(lobby);
-            }
-        }
+    public boolean isRestoring() {
+        return restoreTask != null;
     }
 
-    // Getters
-    public SearchAndDestroy getPlugin() {
-        return plugin;
+    public ArenaChunkTickets getChunkTickets() {
+        return chunkTickets;
     }
 
     public SndMap getMap() {
@@ -438,34 +543,117 @@ public class SndArena {
         return players;
     }
 
+    /**
+     * Size of the slot table; every player's slot is below this.
+     */
+    public int getSlotCount() {
+        return slots.capacity();
+    }
+
+    /**
+     * Player in a slot, or null if it is free.
+     */
+    public PlayerData getPlayerBySlot(int slot) {
+        return slots.get(slot);
+    }
+
+    public PlayerSlots getSlots() {
+        return slots;
+    }
+
     public PlayerData getPlayerData(Player player) {
         return players.get(player.getUniqueId());
     }
 
+    /**
+     * Config snapshot of the running match, or the current one between matches.
+     */
+    public Config getConfig() {
+        return getProfile().config();
+    }
+
+    /**
+     * Rules of the running match, or this map's current rules between matches.
+     */
+    public MatchProfile getProfile() {
+        GameManager game = gameManager;
+        if (game != null && game.getProfile() != null)
+            return game.getProfile();
+        return map.getProfile(plugin.getMainConfig());
+    }
+
     public GameManager getGameManager() {
         return gameManager;
     }
 
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public ArenaScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public ArenaEntityPool getEntityPool() {
+        return entityPool;
+    }
+
     public int getPlayerCount() {
         return players.size();
     }
 
+    /**
+     * Players on a team, in slot order.
+     */
     public List<PlayerData> getPlayersOnTeam(Team team) {
-        return players.values().stream()
-                .filter(p -> p.getTeam() == team)
-                .toList();
+        List<PlayerData> result = new ArrayList<>();
+        for (int slot = 0; slot < slots.capacity(); slot++) {
+            PlayerData data = slots.get(slot);
+            if (data != null && data.getTeam() == team) {
+                result.add(data);
+            }
+        }
+        return result;
     }
 
     public List<PlayerData> getAlivePlayers() {
-        return players.values().stream()
-                .filter(PlayerData::isAlive)
-                .toList();
+        List<PlayerData> result = new ArrayList<>();
+        for (int slot = 0; slot < slots.capacity(); slot++) {
+            PlayerData data = slots.get(slot);
+            if (data != null && data.isAlive()) {
+                result.add(data);
+            }
+        }
+        return result;
     }
 
     public List<PlayerData> getAlivePlayersOnTeam(Team team) {
-        return players.values().stream()
-                .filter(p -> p.getTeam() == team && p.isAlive())
-                .toList();
+        List<PlayerData> result = new ArrayList<>();
+        for (int slot = 0; slot < slots.capacity(); slot++) {
+            PlayerData data = slots.get(slot);
+            if (data != null && data.getTeam() == team && data.isAlive()) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Players on a team, counted without building a list.
+     */
+    public int countOnTeam(Team team) {
+        return slots.count(team);
+    }
+
+    /**
+     * Alive players on a team, counted without building a list.
+     */
+    public int countAlive(Team team) {
+        return slots.countAlive(team);
     }
 
     /**
@@ -1,15 +1,27 @@
 package com.saratoga.snd.arena;
 
+import com.saratoga.snd.Config;
+import com.saratoga.snd.IoExecutor;
+import com.saratoga.snd.game.MatchProfile;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.util.BoundingBox;
 
 import java.io.File;
-import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a map configuration for Search and Destroy.
@@ -22,31 +34,45 @@ public class SndMap {
 
     // Spawns
     private Location lobbySpawn;
-    private Location attackerSpawn;
-    private Location defenderSpawn;
+    private final List<Location> attackerSpawns = new ArrayList<>();
+    private final List<Location> defenderSpawns = new ArrayList<>();
+    private volatile SpawnTable spawnTable;
 
-    // Bomb sites
-    private final Map<String, BombSite> bombSites = new HashMap<>();
+    // Bomb sites, by upper-case name, plus the lookup index built from them
+    private final Map<String, BombSite> bombSites = new TreeMap<>();
+    private volatile SiteIndex siteIndex = SiteIndex.EMPTY;
 
     // Settings
     private int minPlayers = 2;
     private int maxPlayers = 10;
 
+    // Blocks players may break or place during a match; changes are restored afterwards
+    private Set<Material> destructible = Set.of();
+    private Set<Material> placeable = Set.of();
+
+    // Rule overrides and the profile compiled from them
+    private MapRules rules = MapRules.NONE;
+    private volatile MatchProfile profile;
+
+    // Only the newest queued save is written
+    private final AtomicLong saveVersion = new AtomicLong();
+    private final Object saveLock = new Object();
+
     public SndMap(String name, File file) {
         this.name = name;
         this.file = file;
     }
 
     /**
-     * Load map from YAML file.
+     * Build a map from its already-read YAML file.
+     * Must run on the main thread (resolves worlds).
      */
-    public static SndMap load(File file) {
+    public static SndMap load(File file, YamlConfiguration config) {
         String name = file.getName().replace(".yml", "");
         SndMap map = new SndMap(name, file);
 
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
-
         map.worldName = config.getString("world", "world");
+        map.rules = MapRules.load(config.getConfigurationSection("rules"));
         World world = Bukkit.getWorld(map.worldName);
         if (world == null) {
             return map; // World not loaded yet, locations will be null
@@ -61,14 +87,8 @@ public class SndMap {
         // Load spawns
         ConfigurationSection spawnsSection = config.getConfigurationSection("spawns");
         if (spawnsSection != null) {
-            ConfigurationSection attackersSection = spawnsSection.getConfigurationSection("attackers");
-            if (attackersSection != null) {
-                map.attackerSpawn = loadLocation(world, attackersSection);
-            }
-            ConfigurationSection defendersSection = spawnsSection.getConfigurationSection("defenders");
-            if (defendersSection != null) {
-                map.defenderSpawn = loadLocation(world, defendersSection);
-            }
+            loadSpawns(world, spawnsSection.getConfigurationSection("attackers"), map.attackerSpawns);
+            loadSpawns(world, spawnsSection.getConfigurationSection("defenders"), map.defenderSpawns);
         }
 
         // Load bomb sites
@@ -77,18 +97,20 @@ public class SndMap {
             for (String siteKey : sitesSection.getKeys(false)) {
                 ConfigurationSection siteSection = sitesSection.getConfigurationSection(siteKey);
                 if (siteSection != null) {
-                    double x = siteSection.getDouble("x");
-                    double y = siteSection.getDouble("y");
-                    double z = siteSection.getDouble("z");
-                    double radius = siteSection.getDouble("radius", 5.0);
-                    map.bombSites.put(siteKey.toUpperCase(), new BombSite(new Location(world, x, y, z), radius));
+                    BombSite site = BombSite.load(world, siteKey.toUpperCase(), siteSection);
+                    if (site != null) {
+                        map.bombSites.put(site.name(), site);
+                    }
                 }
             }
         }
+        map.siteIndex = SiteIndex.build(map.bombSites.values());
 
         // Load settings
         map.minPlayers = config.getInt("min-players", 2);
         map.maxPlayers = config.getInt("max-players", 10);
+        map.destructible = loadMaterials(config.getStringList("destructible"));
+        map.placeable = loadMaterials(config.getStringList("placeable"));
 
         return map;
     }
@@ -102,10 +124,60 @@ public class SndMap {
         return new Location(world, x, y, z, yaw, pitch);
     }
 
+    private static Set<Material> loadMaterials(List<String> names) {
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        for (String name : names) {
+            Material material = Material.matchMaterial(name);
+            if (material != null && material.isBlock()) {
+                materials.add(material);
+            }
+        }
+        return Collections.unmodifiableSet(materials);
+    }
+
     /**
-     * Save map to YAML file.
+     * Read a side's spawns: numbered sub-sections, or a single location
+     * written by older versions.
      */
-    public void save() throws IOException {
+    private static void loadSpawns(World world, ConfigurationSection section, List<Location> spawns) {
+        if (section == null)
+            return;
+        if (section.contains("x")) {
+            spawns.add(loadLocation(world, section));
+            return;
+        }
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection spawn = section.getConfigurationSection(key);
+            if (spawn != null && spawns.size() < SpawnTable.MAX_SPAWNS) {
+                spawns.add(loadLocation(world, spawn));
+            }
+        }
+    }
+
+    private static void saveSpawns(ConfigurationSection section, List<Location> spawns) {
+        for (int i = 0; i < spawns.size(); i++) {
+            saveLocation(section.createSection(String.valueOf(i + 1)), spawns.get(i));
+        }
+    }
+
+    /**
+     * Save map to its YAML file on the I/O executor.
+     * The YAML is built on the calling thread so later edits don't race the write.
+     */
+    public CompletableFuture<Void> saveAsync(IoExecutor io) {
+        YamlConfiguration config = toYaml();
+        long version = saveVersion.incrementAndGet();
+        return io.run("save map " + name, () -> {
+            synchronized (saveLock) {
+                // A newer save is queued - skip the stale one
+                if (version == saveVersion.get()) {
+                    config.save(file);
+                }
+            }
+        });
+    }
+
+    private YamlConfiguration toYaml() {
         YamlConfiguration config = new YamlConfiguration();
 
         config.set("name", name);
@@ -118,32 +190,38 @@ public class SndMap {
 
         // Save spawns
         ConfigurationSection spawnsSection = config.createSection("spawns");
-        if (attackerSpawn != null) {
-            saveLocation(spawnsSection.createSection("attackers"), attackerSpawn);
+        if (!attackerSpawns.isEmpty()) {
+            saveSpawns(spawnsSection.createSection("attackers"), attackerSpawns);
         }
-        if (defenderSpawn != null) {
-            saveLocation(spawnsSection.createSection("defenders"), defenderSpawn);
+        if (!defenderSpawns.isEmpty()) {
+            saveSpawns(spawnsSection.createSection("defenders"), defenderSpawns);
         }
 
         // Save bomb sites
         ConfigurationSection sitesSection = config.createSection("bomb-sites");
-        for (Map.Entry<String, BombSite> entry : bombSites.entrySet()) {
-            ConfigurationSection siteSection = sitesSection.createSection(entry.getKey());
-            BombSite site = entry.getValue();
-            siteSection.set("x", site.center().getX());
-            siteSection.set("y", site.center().getY());
-            siteSection.set("z", site.center().getZ());
-            siteSection.set("radius", site.radius());
+        for (BombSite site : bombSites.values()) {
+            site.save(sitesSection.createSection(site.name()));
         }
 
         // Save settings
         config.set("min-players", minPlayers);
         config.set("max-players", maxPlayers);
+        if (!destructible.isEmpty()) {
+            config.set("destructible", destructible.stream().map(Material::name).sorted().toList());
+        }
+        if (!placeable.isEmpty()) {
+            config.set("placeable", placeable.stream().map(Material::name).sorted().toList());
+        }
 
-        config.save(file);
+        // Save rule overrides
+        if (!rules.isEmpty()) {
+            rules.save(config.createSection("rules"));
+        }
+
+        return config;
     }
 
-    private void saveLocation(ConfigurationSection section, Location loc) {
+    private static void saveLocation(ConfigurationSection section, Location loc) {
         section.set("x", loc.getX());
         section.set("y", loc.getY());
         section.set("z", loc.getZ());
@@ -156,10 +234,9 @@ public class SndMap {
      */
     public boolean isReady() {
         return lobbySpawn != null
-                && attackerSpawn != null
-                && defenderSpawn != null
-                && bombSites.containsKey("A")
-                && bombSites.containsKey("B");
+                && !attackerSpawns.isEmpty()
+                && !defenderSpawns.isEmpty()
+                && !bombSites.isEmpty();
     }
 
     // Getters and setters
@@ -183,32 +260,130 @@ public class SndMap {
         this.lobbySpawn = lobbySpawn;
     }
 
+    /**
+     * First attacker spawn, where the bomb appears, or null.
+     */
     public Location getAttackerSpawn() {
-        return attackerSpawn;
+        return attackerSpawns.isEmpty() ? null : attackerSpawns.get(0);
     }
 
-    public void setAttackerSpawn(Location attackerSpawn) {
-        this.attackerSpawn = attackerSpawn;
+    /**
+     * First defender spawn, or null.
+     */
+    public Location getDefenderSpawn() {
+        return defenderSpawns.isEmpty() ? null : defenderSpawns.get(0);
     }
 
-    public Location getDefenderSpawn() {
-        return defenderSpawn;
+    public List<Location> getAttackerSpawns() {
+        return Collections.unmodifiableList(attackerSpawns);
     }
 
-    public void setDefenderSpawn(Location defenderSpawn) {
-        this.defenderSpawn = defenderSpawn;
+    public List<Location> getDefenderSpawns() {
+        return Collections.unmodifiableList(defenderSpawns);
+    }
+
+    /**
+     * Replace all spawns of a side with one.
+     */
+    public void setSpawn(boolean attackers, Location loc) {
+        List<Location> spawns = attackers ? attackerSpawns : defenderSpawns;
+        spawns.clear();
+        spawns.add(loc);
+        spawnTable = null;
+    }
+
+    /**
+     * Add a spawn to a side.
+     *
+     * @return false if the side already has {@link SpawnTable#MAX_SPAWNS}
+     */
+    public boolean addSpawn(boolean attackers, Location loc) {
+        List<Location> spawns = attackers ? attackerSpawns : defenderSpawns;
+        if (spawns.size() >= SpawnTable.MAX_SPAWNS)
+            return false;
+        spawns.add(loc);
+        spawnTable = null;
+        return true;
+    }
+
+    /**
+     * Spawn table for the current spawns, built on first use after a change.
+     * Ray traces between spawns, so call it on the main thread once the map
+     * chunks are loaded.
+     */
+    public SpawnTable getSpawnTable() {
+        SpawnTable table = spawnTable;
+        if (table == null) {
+            table = SpawnTable.build(attackerSpawns, defenderSpawns);
+            spawnTable = table;
+        }
+        return table;
     }
 
     public Map<String, BombSite> getBombSites() {
-        return bombSites;
+        return Collections.unmodifiableMap(bombSites);
     }
 
     public BombSite getBombSite(String name) {
         return bombSites.get(name.toUpperCase());
     }
 
-    public void setBombSite(String name, BombSite site) {
-        bombSites.put(name.toUpperCase(), site);
+    public void setBombSite(BombSite site) {
+        bombSites.put(site.name(), site);
+        siteIndex = SiteIndex.build(List.copyOf(bombSites.values()));
+    }
+
+    public boolean removeBombSite(String name) {
+        if (bombSites.remove(name.toUpperCase()) == null)
+            return false;
+        siteIndex = SiteIndex.build(List.copyOf(bombSites.values()));
+        return true;
+    }
+
+    /**
+     * Bomb site containing the location, or null.
+     */
+    public BombSite findBombSite(Location loc) {
+        return siteIndex.find(loc);
+    }
+
+    /**
+     * Box around the lobby, spawns and bomb sites in the map's world, or
+     * null if none is set.
+     */
+    public BoundingBox getBounds() {
+        if (worldName == null)
+            return null;
+        BoundingBox bounds = null;
+        List<Location> points = new ArrayList<>(attackerSpawns);
+        points.addAll(defenderSpawns);
+        points.add(lobbySpawn);
+        for (Location loc : points) {
+            if (loc == null || loc.getWorld() == null || !worldName.equals(loc.getWorld().getName()))
+                continue;
+            BoundingBox point = BoundingBox.of(loc, 0, 0, 0);
+            bounds = bounds == null ? point : bounds.union(point);
+        }
+        for (BombSite site : bombSites.values()) {
+            if (site.world() == null || !worldName.equals(site.world().getName()))
+                continue;
+            bounds = bounds == null ? site.shape().bounds() : bounds.union(site.shape().bounds());
+        }
+        return bounds;
+    }
+
+    /**
+     * Whether players may break this block type during a match.
+     */
+    public boolean isDestructible(Material material) {
+        return destructible.contains(material);
+    }
+
+    /**
+     * Whether players may place this block type during a match.
+     */
+    public boolean isPlaceable(Material material) {
+        return placeable.contains(material);
     }
 
     public int getMinPlayers() {
@@ -219,14 +394,86 @@ public class SndMap {
         return maxPlayers;
     }
 
+    public MapRules getRules() {
+        return rules;
+    }
+
     /**
-     * Represents a bomb site with center and radius.
+     * Rules for this map under the given config snapshot.
+     * Recompiled only when the snapshot changes.
      */
-    public record BombSite(Location center, double radius) {
+    public MatchProfile getProfile(Config config) {
+        MatchProfile current = profile;
+        if (current == null || current.config() != config) {
+            current = MatchProfile.compile(config, rules);
+            profile = current;
+        }
+        return current;
+    }
+
+    /**
+     * A named bomb site with its area, marker colour and plant rules.
+     *
+     * @param plantTime       plant time in seconds for this site, or null for the match default
+     * @param requireOnGround planting needs the player standing on the ground
+     */
+    public record BombSite(String name, World world, SiteShape shape, NamedTextColor color,
+            Integer plantTime, boolean requireOnGround) {
+
+        private static final List<NamedTextColor> PALETTE = List.of(
+                NamedTextColor.YELLOW, NamedTextColor.AQUA, NamedTextColor.GREEN,
+                NamedTextColor.LIGHT_PURPLE, NamedTextColor.GOLD, NamedTextColor.BLUE);
+
+        /**
+         * New site with the default colour for its name and no plant rules.
+         */
+        public static BombSite of(String name, World world, SiteShape shape) {
+            return new BombSite(name.toUpperCase(), world, shape, defaultColor(name), null, false);
+        }
+
+        static BombSite load(World world, String name, ConfigurationSection section) {
+            SiteShape shape = SiteShape.load(section);
+            if (shape == null)
+                return null;
+            NamedTextColor color = NamedTextColor.NAMES.value(section.getString("color", "").toLowerCase());
+            Integer plantTime = section.isInt("plant-time-seconds") ? section.getInt("plant-time-seconds") : null;
+            return new BombSite(name, world, shape, color != null ? color : defaultColor(name),
+                    plantTime, section.getBoolean("require-on-ground", false));
+        }
+
+        void save(ConfigurationSection section) {
+            shape.save(section);
+            section.set("color", NamedTextColor.NAMES.key(color));
+            section.set("plant-time-seconds", plantTime);
+            if (requireOnGround) {
+                section.set("require-on-ground", true);
+            }
+        }
+
+        /**
+         * A, B, C... get distinct colours in order; red is kept for the planted site.
+         */
+        private static NamedTextColor defaultColor(String name) {
+            int index = Math.max(0, Character.toUpperCase(name.charAt(0)) - 'A');
+            return PALETTE.get(index % PALETTE.size());
+        }
+
+        public BombSite withShape(SiteShape shape) {
+            return new BombSite(name, world, shape, color, plantTime, requireOnGround);
+        }
+
+        public Location center() {
+            return shape.center().toLocation(world);
+        }
+
         public boolean isInside(Location loc) {
-            if (!loc.getWorld().equals(center.getWorld()))
+            if (!world.equals(loc.getWorld()))
                 return false;
-            return loc.distanceSquared(center) <= radius * radius;
+            return shape.contains(loc.getX(), loc.getY(), loc.getZ());
+        }
+
+        public int plantTimeOr(int fallback) {
+            return plantTime != null && plantTime > 0 ? plantTime : fallback;
         }
     }
 }
@@ -0,0 +1,121 @@
+package com.saratoga.snd.arena;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+import java.util.List;
+
+/**
+ * Spawn points of both sides with their mutual line of sight, computed once
+ * per spawn layout. Picking spawns for a round is then only counting and bit
+ * operations: players spread over the least used spawns first, and among
+ * those prefer ones no enemy spawn in use can see.
+ */
+public final class SpawnTable {
+
+    // Visibility is stored as one long bitset per spawn
+    public static final int MAX_SPAWNS = 64;
+    private static final double EYE_HEIGHT = 1.62;
+
+    private final List<Location> attackers;
+    private final List<Location> defenders;
+    // Bit j of attackerSees[i]: attacker spawn i and defender spawn j see each other
+    private final long[] attackerSees;
+    private final long[] defenderSees;
+
+    private SpawnTable(List<Location> attackers, List<Location> defenders, long[] attackerSees, long[] defenderSees) {
+        this.attackers = attackers;
+        this.defenders = defenders;
+        this.attackerSees = attackerSees;
+        this.defenderSees = defenderSees;
+    }
+
+    /**
+     * Ray trace every attacker/defender spawn pair. Must run where the
+     * spawn chunks can be read (main thread, chunks loaded).
+     */
+    static SpawnTable build(List<Location> attackers, List<Location> defenders) {
+        long[] attackerSees = new long[attackers.size()];
+        long[] defenderSees = new long[defenders.size()];
+        for (int i = 0; i < attackers.size(); i++) {
+            for (int j = 0; j < defenders.size(); j++) {
+                if (canSee(attackers.get(i), defenders.get(j))) {
+                    attackerSees[i] |= 1L << j;
+                    defenderSees[j] |= 1L << i;
+                }
+            }
+        }
+        return new SpawnTable(List.copyOf(attackers), List.copyOf(defenders), attackerSees, defenderSees);
+    }
+
+    private static boolean canSee(Location a, Location b) {
+        if (a.getWorld() == null || a.getWorld() != b.getWorld())
+            return false;
+        Location eye = a.clone().add(0, EYE_HEIGHT, 0);
+        Vector toTarget = b.toVector().add(new Vector(0, EYE_HEIGHT, 0)).subtract(eye.toVector());
+        double distance = toTarget.length();
+        if (distance < 1.0E-3)
+            return true;
+        return a.getWorld().rayTraceBlocks(eye, toTarget.normalize(), distance,
+                FluidCollisionMode.NEVER, true) == null;
+    }
+
+    /**
+     * Pick spawns for one round. Sides are filled alternately so each pick
+     * knows the enemy spawns already taken.
+     *
+     * @param rotation varies the choice between equally good spawns, e.g. the round number
+     */
+    public Assignment assign(int attackerCount, int defenderCount, int rotation) {
+        Location[] attackerPicks = new Location[attackers.isEmpty() ? 0 : attackerCount];
+        Location[] defenderPicks = new Location[defenders.isEmpty() ? 0 : defenderCount];
+        int[] attackerUse = new int[attackers.size()];
+        int[] defenderUse = new int[defenders.size()];
+        long attackersInUse = 0;
+        long defendersInUse = 0;
+
+        int a = 0;
+        int d = 0;
+        while (a < attackerPicks.length || d < defenderPicks.length) {
+            if (a < attackerPicks.length) {
+                int pick = pick(attackerUse, attackerSees, defendersInUse, rotation);
+                attackerUse[pick]++;
+                attackersInUse |= 1L << pick;
+                attackerPicks[a++] = attackers.get(pick);
+            }
+            if (d < defenderPicks.length) {
+                int pick = pick(defenderUse, defenderSees, attackersInUse, rotation);
+                defenderUse[pick]++;
+                defendersInUse |= 1L << pick;
+                defenderPicks[d++] = defenders.get(pick);
+            }
+        }
+        return new Assignment(attackerPicks, defenderPicks);
+    }
+
+    /**
+     * Least used spawn, then fewest enemy spawns in use that can see it.
+     */
+    private static int pick(int[] use, long[] sees, long enemiesInUse, int rotation) {
+        int best = -1;
+        long bestScore = Long.MAX_VALUE;
+        for (int k = 0; k < use.length; k++) {
+            int i = Math.floorMod(k + rotation, use.length);
+            // Crowding outweighs any amount of exposure
+            long score = (long) use[i] * (MAX_SPAWNS + 1) + Long.bitCount(sees[i] & enemiesInUse);
+            if (score < bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Spawns picked for a round, in player order per side. A side without
+     * spawn points gets an empty array.
+     */
+    public record Assignment(Location[] attackers, Location[] defenders) {
+    }
+}
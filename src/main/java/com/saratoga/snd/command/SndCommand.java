@@ -2,10 +2,16 @@ package com.saratoga.snd.command;
 
 import com.saratoga.snd.Messages;
 import com.saratoga.snd.SearchAndDestroy;
+import com.saratoga.snd.arena.SiteShape;
 import com.saratoga.snd.arena.SndArena;
 import com.saratoga.snd.arena.SndMap;
+import com.saratoga.snd.arena.SpawnTable;
+import com.saratoga.snd.game.BuyMenu;
+import com.saratoga.snd.game.MatchProfile;
+import com.saratoga.snd.game.RoundState;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -14,7 +20,6 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -44,11 +49,13 @@ public class SndCommand implements CommandExecutor, TabCompleter {
             case "join" -> handleJoin(sender, args);
             case "leave" -> handleLeave(sender);
             case "list" -> handleList(sender);
+            case "buy" -> handleBuy(sender);
             case "create" -> handleCreate(sender, args);
             case "delete" -> handleDelete(sender, args);
             case "setup" -> handleSetup(sender, args);
             case "reload" -> handleReload(sender);
             case "info" -> handleInfo(sender, args);
+            case "status" -> handleStatus(sender);
             default -> sendHelp(sender);
         }
 
@@ -63,6 +70,8 @@ public class SndCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(" - 退出", NamedTextColor.GRAY)));
         sender.sendMessage(Component.text("/snd list", NamedTextColor.YELLOW)
                 .append(Component.text(" - マップ一覧", NamedTextColor.GRAY)));
+        sender.sendMessage(Component.text("/snd buy", NamedTextColor.YELLOW)
+                .append(Component.text(" - ショップ (ラウンド開始前)", NamedTextColor.GRAY)));
 
         if (sender.hasPermission("snd.admin")) {
             sender.sendMessage(Component.text("/snd create <name>", NamedTextColor.YELLOW)
@@ -73,6 +82,8 @@ public class SndCommand implements CommandExecutor, TabCompleter {
                     .append(Component.text(" - マップ削除", NamedTextColor.GRAY)));
             sender.sendMessage(Component.text("/snd reload", NamedTextColor.YELLOW)
                     .append(Component.text(" - リロード", NamedTextColor.GRAY)));
+            sender.sendMessage(Component.text("/snd status", NamedTextColor.YELLOW)
+                    .append(Component.text(" - 内部状態", NamedTextColor.GRAY)));
         }
     }
 
@@ -131,6 +142,24 @@ public class SndCommand implements CommandExecutor, TabCompleter {
         Messages.send(player, Messages.LEFT_GAME);
     }
 
+    private void handleBuy(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Component.text("プレイヤーのみ実行可能です。", NamedTextColor.RED));
+            return;
+        }
+
+        SndArena arena = plugin.getArenaManager().getPlayerArena(player);
+        if (arena == null || arena.getGameManager() == null || arena.getGameManager().getConfig() == null) {
+            Messages.send(player, Messages.NOT_IN_GAME);
+            return;
+        }
+        if (arena.getGameManager().getRoundState() != RoundState.PREPARING) {
+            Messages.send(player, Messages.BUY_PHASE_ONLY);
+            return;
+        }
+        player.openInventory(new BuyMenu(arena, player).getInventory());
+    }
+
     private void handleList(CommandSender sender) {
         var maps = plugin.getArenaManager().getMaps();
         if (maps.isEmpty()) {
@@ -164,22 +193,19 @@ public class SndCommand implements CommandExecutor, TabCompleter {
         String name = args[1];
         String worldName = player.getWorld().getName();
 
-        try {
-            SndMap map = plugin.getArenaManager().createMap(name, worldName);
-            if (map == null) {
-                Messages.send(player, Messages.ARENA_ALREADY_EXISTS);
-                return;
-            }
-            Messages.send(player, Messages.ARENA_CREATED);
-            sender.sendMessage(Component.text("次に以下のセットアップを行ってください:", NamedTextColor.YELLOW));
-            sender.sendMessage(Component.text("  /snd setup lobby", NamedTextColor.GRAY));
-            sender.sendMessage(Component.text("  /snd setup spawn attackers", NamedTextColor.GRAY));
-            sender.sendMessage(Component.text("  /snd setup spawn defenders", NamedTextColor.GRAY));
-            sender.sendMessage(Component.text("  /snd setup site A", NamedTextColor.GRAY));
-            sender.sendMessage(Component.text("  /snd setup site B", NamedTextColor.GRAY));
-        } catch (IOException e) {
-            sender.sendMessage(Component.text("マップの作成に失敗しました: " + e.getMessage(), NamedTextColor.RED));
+        SndMap map = plugin.getArenaManager().createMap(name, worldName);
+        if (map == null) {
+            Messages.send(player, Messages.ARENA_ALREADY_EXISTS);
+            return;
         }
+        saveMap(player, map);
+        Messages.send(player, Messages.ARENA_CREATED);
+        sender.sendMessage(Component.text("次に以下のセットアップを行ってください:", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("  /snd setup lobby", NamedTextColor.GRAY));
+        sender.sendMessage(Component.text("  /snd setup spawn attackers", NamedTextColor.GRAY));
+        sender.sendMessage(Component.text("  /snd setup spawn defenders", NamedTextColor.GRAY));
+        sender.sendMessage(Component.text("  /snd setup site A", NamedTextColor.GRAY));
+        sender.sendMessage(Component.text("  /snd setup site B (C, D... も可)", NamedTextColor.GRAY));
     }
 
     private void handleDelete(CommandSender sender, String[] args) {
@@ -216,7 +242,9 @@ public class SndCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(Component.text("使用法:", NamedTextColor.RED));
             sender.sendMessage(Component.text("  /snd setup lobby <map>", NamedTextColor.GRAY));
             sender.sendMessage(Component.text("  /snd setup spawn <attackers|defenders> <map>", NamedTextColor.GRAY));
-            sender.sendMessage(Component.text("  /snd setup site <A|B> <map>", NamedTextColor.GRAY));
+            sender.sendMessage(Component.text("  /snd setup addspawn <attackers|defenders> <map>", NamedTextColor.GRAY));
+            sender.sendMessage(Component.text("  /snd setup site <name> <map> [radius]", NamedTextColor.GRAY));
+            sender.sendMessage(Component.text("  /snd setup removesite <name> <map>", NamedTextColor.GRAY));
             return;
         }
 
@@ -250,20 +278,45 @@ public class SndCommand implements CommandExecutor, TabCompleter {
                     return;
                 }
 
-                if (spawnType.equals("attackers")) {
-                    map.setAttackerSpawn(player.getLocation());
-                } else if (spawnType.equals("defenders")) {
-                    map.setDefenderSpawn(player.getLocation());
-                } else {
+                if (!spawnType.equals("attackers") && !spawnType.equals("defenders")) {
                     sender.sendMessage(Component.text("attackers または defenders を指定してください。", NamedTextColor.RED));
                     return;
                 }
+                map.setSpawn(spawnType.equals("attackers"), player.getLocation());
                 saveMap(player, map);
                 Messages.send(player, Messages.SPAWN_SET);
             }
+            case "addspawn" -> {
+                if (args.length < 4) {
+                    sender.sendMessage(
+                            Component.text("使用法: /snd setup addspawn <attackers|defenders> <map>", NamedTextColor.RED));
+                    return;
+                }
+                String spawnType = args[2].toLowerCase();
+                mapName = args[3];
+                map = plugin.getArenaManager().getMap(mapName);
+                if (map == null) {
+                    Messages.send(player, Messages.ARENA_NOT_FOUND);
+                    return;
+                }
+                if (!spawnType.equals("attackers") && !spawnType.equals("defenders")) {
+                    sender.sendMessage(Component.text("attackers または defenders を指定してください。", NamedTextColor.RED));
+                    return;
+                }
+                boolean attackers = spawnType.equals("attackers");
+                if (!map.addSpawn(attackers, player.getLocation())) {
+                    sender.sendMessage(Component.text("スポーン地点は最大 " + SpawnTable.MAX_SPAWNS + " 個までです。",
+                            NamedTextColor.RED));
+                    return;
+                }
+                saveMap(player, map);
+                int count = attackers ? map.getAttackerSpawns().size() : map.getDefenderSpawns().size();
+                Messages.send(player, Messages.PREFIX.append(
+                        Component.text("スポーン地点を追加しました (" + count + "個目)。", NamedTextColor.GREEN)));
+            }
             case "site" -> {
                 if (args.length < 4) {
-                    sender.sendMessage(Component.text("使用法: /snd setup site <A|B> <map>", NamedTextColor.RED));
+                    sender.sendMessage(Component.text("使用法: /snd setup site <name> <map> [radius]", NamedTextColor.RED));
                     return;
                 }
                 String siteName = args[2].toUpperCase();
@@ -274,25 +327,55 @@ public class SndCommand implements CommandExecutor, TabCompleter {
                     return;
                 }
 
-                if (!siteName.equals("A") && !siteName.equals("B")) {
-                    sender.sendMessage(Component.text("A または B を指定してください。", NamedTextColor.RED));
-                    return;
+                double radius = 5.0;
+                if (args.length >= 5) {
+                    try {
+                        radius = Double.parseDouble(args[4]);
+                    } catch (NumberFormatException e) {
+                        sender.sendMessage(Component.text("半径は数値で指定してください。", NamedTextColor.RED));
+                        return;
+                    }
                 }
 
-                map.setBombSite(siteName, new SndMap.BombSite(player.getLocation(), 5.0));
+                // Sphere at the player; box and prism sites are written in the map file.
+                // An existing site keeps its colour and plant rules.
+                Location loc = player.getLocation();
+                SiteShape shape = new SiteShape.Sphere(loc.getX(), loc.getY(), loc.getZ(), radius);
+                SndMap.BombSite existing = map.getBombSite(siteName);
+                map.setBombSite(existing != null ? existing.withShape(shape)
+                        : SndMap.BombSite.of(siteName, loc.getWorld(), shape));
                 saveMap(player, map);
                 Messages.send(player, Messages.BOMB_SITE_SET);
             }
+            case "removesite" -> {
+                if (args.length < 4) {
+                    sender.sendMessage(Component.text("使用法: /snd setup removesite <name> <map>", NamedTextColor.RED));
+                    return;
+                }
+                mapName = args[3];
+                map = plugin.getArenaManager().getMap(mapName);
+                if (map == null) {
+                    Messages.send(player, Messages.ARENA_NOT_FOUND);
+                    return;
+                }
+                if (!map.removeBombSite(args[2])) {
+                    sender.sendMessage(Component.text("そのサイトは存在しません。", NamedTextColor.RED));
+                    return;
+                }
+                saveMap(player, map);
+                sender.sendMessage(Component.text("サイト " + args[2].toUpperCase() + " を削除しました。",
+                        NamedTextColor.GREEN));
+            }
             default -> sender.sendMessage(Component.text("不明なセットアップタイプです。", NamedTextColor.RED));
         }
     }
 
     private void saveMap(Player player, SndMap map) {
-        try {
-            map.save();
-        } catch (IOException e) {
-            player.sendMessage(Component.text("保存に失敗しました: " + e.getMessage(), NamedTextColor.RED));
-        }
+        map.saveAsync(plugin.getIoExecutor()).whenCompleteAsync((ignored, error) -> {
+            if (error != null) {
+                player.sendMessage(Component.text("保存に失敗しました: " + error.getMessage(), NamedTextColor.RED));
+            }
+        }, plugin.getIoExecutor().globalExecutor());
     }
 
     private void handleReload(CommandSender sender) {
@@ -301,9 +384,42 @@ public class SndCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        plugin.getMainConfig().reload();
-        plugin.getArenaManager().loadMaps();
-        sender.sendMessage(Component.text("設定をリロードしました。", NamedTextColor.GREEN));
+        plugin.reloadMainConfig()
+                .thenCompose(config -> plugin.getArenaManager().reloadMaps().thenApply(ignored -> config))
+                .whenCompleteAsync((config, error) -> {
+                    if (error != null) {
+                        sender.sendMessage(Component.text("リロードに失敗しました: " + error.getMessage(),
+                                NamedTextColor.RED));
+                    } else {
+                        sender.sendMessage(Component.text("設定をリロードしました。(v" + config.getVersion()
+                                + "、進行中の試合は終了まで旧設定を使用します)", NamedTextColor.GREEN));
+                    }
+                }, plugin.getIoExecutor().globalExecutor());
+    }
+
+    private void handleStatus(CommandSender sender) {
+        if (!sender.hasPermission("snd.admin")) {
+            sender.sendMessage(Component.text("権限がありません。", NamedTextColor.RED));
+            return;
+        }
+
+        var io = plugin.getIoExecutor().getStats();
+        sender.sendMessage(Component.text("=== SND Status ===", NamedTextColor.GOLD));
+        sender.sendMessage(Component.text("設定: v" + plugin.getMainConfig().getVersion(), NamedTextColor.WHITE));
+        sender.sendMessage(Component.text("発光色エントリ: " + plugin.getGlowColors().getAssignedCount(),
+                NamedTextColor.WHITE));
+
+        for (SndArena arena : plugin.getArenaManager().getArenas()) {
+            var tasks = arena.getScheduler();
+            sender.sendMessage(Component.text(String.format("%s: %s / 予約タスク %d (累計 %d, 取消 %d) / チャンク固定 %d / 復元待ち %d",
+                    arena.getMap().getName(), arena.getState(), tasks.getPendingCount(),
+                    tasks.getScheduledCount(), tasks.getCancelledCount(),
+                    arena.getChunkTickets().getTicketCount(), arena.getBlockLog().size()), NamedTextColor.GRAY));
+        }
+        sender.sendMessage(Component.text(String.format("I/O: 完了 %d / 失敗 %d / 拒否 %d / 実行中 %d",
+                io.completed(), io.failed(), io.rejected(), io.inFlight()), NamedTextColor.WHITE));
+        sender.sendMessage(Component.text(String.format("I/O遅延: 平均 %.1fms / 最大 %.1fms",
+                io.avgLatencyMs(), io.maxLatencyMs()), NamedTextColor.WHITE));
     }
 
     private void handleInfo(CommandSender sender, String[] args) {
@@ -322,16 +438,29 @@ public class SndCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(Component.text("ワールド: " + map.getWorldName(), NamedTextColor.WHITE));
         sender.sendMessage(Component.text("ロビー: " + (map.getLobbySpawn() != null ? "設定済み" : "未設定"),
                 map.getLobbySpawn() != null ? NamedTextColor.GREEN : NamedTextColor.RED));
-        sender.sendMessage(Component.text("攻撃側スポーン: " + (map.getAttackerSpawn() != null ? "設定済み" : "未設定"),
-                map.getAttackerSpawn() != null ? NamedTextColor.GREEN : NamedTextColor.RED));
-        sender.sendMessage(Component.text("防衛側スポーン: " + (map.getDefenderSpawn() != null ? "設定済み" : "未設定"),
-                map.getDefenderSpawn() != null ? NamedTextColor.GREEN : NamedTextColor.RED));
-        sender.sendMessage(Component.text("サイトA: " + (map.getBombSite("A") != null ? "設定済み" : "未設定"),
-                map.getBombSite("A") != null ? NamedTextColor.GREEN : NamedTextColor.RED));
-        sender.sendMessage(Component.text("サイトB: " + (map.getBombSite("B") != null ? "設定済み" : "未設定"),
-                map.getBombSite("B") != null ? NamedTextColor.GREEN : NamedTextColor.RED));
+        int attackerSpawns = map.getAttackerSpawns().size();
+        int defenderSpawns = map.getDefenderSpawns().size();
+        sender.sendMessage(Component.text("攻撃側スポーン: " + (attackerSpawns > 0 ? attackerSpawns + "個" : "未設定"),
+                attackerSpawns > 0 ? NamedTextColor.GREEN : NamedTextColor.RED));
+        sender.sendMessage(Component.text("防衛側スポーン: " + (defenderSpawns > 0 ? defenderSpawns + "個" : "未設定"),
+                defenderSpawns > 0 ? NamedTextColor.GREEN : NamedTextColor.RED));
+        if (map.getBombSites().isEmpty()) {
+            sender.sendMessage(Component.text("爆弾サイト: 未設定", NamedTextColor.RED));
+        } else {
+            Component sites = Component.text("爆弾サイト: ", NamedTextColor.WHITE);
+            for (SndMap.BombSite site : map.getBombSites().values()) {
+                sites = sites.append(Component.text(site.name() + " ", site.color()));
+            }
+            sender.sendMessage(sites);
+        }
         sender.sendMessage(Component.text("準備状態: " + (map.isReady() ? "準備完了" : "セットアップ未完了"),
                 map.isReady() ? NamedTextColor.GREEN : NamedTextColor.RED));
+
+        MatchProfile profile = map.getProfile(plugin.getMainConfig());
+        sender.sendMessage(Component.text(String.format("ルール%s: 最大%dラウンド / %d勝 / 制限%d秒 / 設置%d秒 / 解除%d秒 / 爆発%d秒",
+                map.getRules().isEmpty() ? "" : " (マップ独自)",
+                profile.maxRounds(), profile.roundsToWin(), profile.roundTimeLimit(),
+                profile.plantTime(), profile.defuseTime(), profile.explosionTime()), NamedTextColor.WHITE));
     }
 
     @Override
@@ -340,9 +469,9 @@ public class SndCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            List<String> subs = new ArrayList<>(Arrays.asList("join", "leave", "list"));
+            List<String> subs = new ArrayList<>(Arrays.asList("join", "leave", "list", "buy"));
             if (sender.hasPermission("snd.admin")) {
-                subs.addAll(Arrays.asList("create", "delete", "setup", "reload", "info"));
+                subs.addAll(Arrays.asList("create", "delete", "setup", "reload", "info", "status"));
             }
             String input = args[0].toLowerCase();
             for (String s : subs) {
@@ -357,7 +486,7 @@ public class SndCommand implements CommandExecutor, TabCompleter {
                         completions.add(name);
                 }
             } else if (sub.equals("setup") && sender.hasPermission("snd.admin")) {
-                for (String s : Arrays.asList("lobby", "spawn", "site")) {
+                for (String s : Arrays.asList("lobby", "spawn", "addspawn", "site", "removesite")) {
                     if (s.startsWith(args[1].toLowerCase()))
                         completions.add(s);
                 }
@@ -366,13 +495,13 @@ public class SndCommand implements CommandExecutor, TabCompleter {
             String sub = args[0].toLowerCase();
             String type = args[1].toLowerCase();
             if (sub.equals("setup") && sender.hasPermission("snd.admin")) {
-                if (type.equals("spawn")) {
+                if (type.equals("spawn") || type.equals("addspawn")) {
                     for (String s : Arrays.asList("attackers", "defenders")) {
                         if (s.startsWith(args[2].toLowerCase()))
                             completions.add(s);
                     }
-                } else if (type.equals("site")) {
-                    for (String s : Arrays.asList("A", "B")) {
+                } else if (type.equals("site") || type.equals("removesite")) {
+                    for (String s : Arrays.asList("A", "B", "C", "D")) {
                         if (s.startsWith(args[2].toUpperCase()))
                             completions.add(s);
                     }
@@ -386,7 +515,8 @@ public class SndCommand implements CommandExecutor, TabCompleter {
         } else if (args.length == 4) {
             String sub = args[0].toLowerCase();
             String type = args[1].toLowerCase();
-            if (sub.equals("setup") && (type.equals("spawn") || type.equals("site"))) {
+            if (sub.equals("setup") && (type.equals("spawn") || type.equals("addspawn") || type.equals("site")
+                    || type.equals("removesite"))) {
                 for (String name : plugin.getArenaManager().getMapNames()) {
                     if (name.startsWith(args[3].toLowerCase()))
                         completions.add(name);
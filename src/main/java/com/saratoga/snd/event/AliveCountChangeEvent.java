@@ -0,0 +1,9 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+
+/**
+ * Number of alive players on either team changed.
+ */
+public record AliveCountChangeEvent(SndArena arena) implements GameEvent {
+}
@@ -0,0 +1,10 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import org.bukkit.entity.Player;
+
+/**
+ * The bomb has been defused.
+ */
+public record BombDefusedEvent(SndArena arena, Player defuser) implements GameEvent {
+}
@@ -0,0 +1,12 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * The bomb has been planted.
+ */
+public record BombPlantedEvent(SndArena arena, Player planter, String site, Location location)
+        implements GameEvent {
+}
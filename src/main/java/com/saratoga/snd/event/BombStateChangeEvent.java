@@ -0,0 +1,10 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.game.Bomb;
+
+/**
+ * The bomb moved to a new state (picked up, dropped, planted...).
+ */
+public record BombStateChangeEvent(SndArena arena, Bomb.State state) implements GameEvent {
+}
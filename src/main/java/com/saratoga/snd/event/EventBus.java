@@ -0,0 +1,128 @@
+package com.saratoga.snd.event;
+
+import org.bukkit.Bukkit;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Lightweight synchronous event bus for internal game events.
+ * Subscriber arrays are kept per exact event type and replaced on
+ * (un)subscribe, so publishing is a single map lookup and an array walk.
+ * Events are passed on to the parent bus; the root bus also fires a
+ * {@link SndGameEvent} when another plugin listens for it.
+ */
+public class EventBus {
+
+    private final Logger logger;
+    private final EventBus parent;
+
+    // Copy-on-write: never mutated after being published to this field
+    private volatile Map<Class<?>, Consumer<?>[]> subscribers = Map.of();
+
+    /**
+     * Create a root bus.
+     */
+    public EventBus(Logger logger) {
+        this(logger, null);
+    }
+
+    /**
+     * Create a bus that forwards every event to a parent bus.
+     */
+    public EventBus(Logger logger, EventBus parent) {
+        this.logger = logger;
+        this.parent = parent;
+    }
+
+    /**
+     * Subscribe to an event type.
+     */
+    public synchronized <E extends GameEvent> Subscription subscribe(Class<E> type, Consumer<? super E> handler) {
+        Map<Class<?>, Consumer<?>[]> next = new HashMap<>(subscribers);
+        Consumer<?>[] current = next.get(type);
+        Consumer<?>[] updated;
+        if (current == null) {
+            updated = new Consumer<?>[] { handler };
+        } else {
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = handler;
+        }
+        next.put(type, updated);
+        subscribers = next;
+        return new Subscription(this, type, handler);
+    }
+
+    /**
+     * Remove a subscriber.
+     */
+    private synchronized void unsubscribe(Class<?> type, Consumer<?> handler) {
+        Consumer<?>[] current = subscribers.get(type);
+        if (current == null)
+            return;
+
+        Map<Class<?>, Consumer<?>[]> next = new HashMap<>(subscribers);
+        Consumer<?>[] updated = Arrays.stream(current)
+                .filter(c -> c != handler)
+                .toArray(Consumer<?>[]::new);
+        if (updated.length == 0) {
+            next.remove(type);
+        } else {
+            next.put(type, updated);
+        }
+        subscribers = next;
+    }
+
+    /**
+     * Check if anything is subscribed to an event type.
+     */
+    public boolean hasSubscribers(Class<? extends GameEvent> type) {
+        return subscribers.containsKey(type);
+    }
+
+    /**
+     * Deliver an event to all subscribers of its exact type, then to the parent.
+     * A failing subscriber is logged and does not affect the others.
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(GameEvent event) {
+        Consumer<?>[] handlers = subscribers.get(event.getClass());
+        if (handlers != null) {
+            for (Consumer<?> handler : handlers) {
+                try {
+                    ((Consumer<GameEvent>) handler).accept(event);
+                } catch (RuntimeException e) {
+                    logger.error("Error dispatching {}", event.getClass().getSimpleName(), e);
+                }
+            }
+        }
+
+        if (parent != null) {
+            parent.publish(event);
+        } else if (SndGameEvent.hasListeners()) {
+            Bukkit.getPluginManager().callEvent(new SndGameEvent(event));
+        }
+    }
+
+    /**
+     * Handle returned by {@link #subscribe}, used to unsubscribe.
+     */
+    public static final class Subscription {
+        private final EventBus bus;
+        private final Class<?> type;
+        private final Consumer<?> handler;
+
+        private Subscription(EventBus bus, Class<?> type, Consumer<?> handler) {
+            this.bus = bus;
+            this.type = type;
+            this.handler = handler;
+        }
+
+        public void unsubscribe() {
+            bus.unsubscribe(type, handler);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+
+/**
+ * Base type for internal game events published on an {@link EventBus}.
+ */
+public interface GameEvent {
+
+    /**
+     * Arena the event originated from.
+     */
+    SndArena arena();
+}
@@ -0,0 +1,14 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.game.Team;
+
+/**
+ * A match has ended.
+ *
+ * @param winner winning team, or null if the match was abandoned
+ * @param forced true if the match ended early (players left)
+ */
+public record MatchEndEvent(SndArena arena, Team winner, int redScore, int blueScore, boolean forced)
+        implements GameEvent {
+}
@@ -0,0 +1,9 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+
+/**
+ * A match has started in an arena.
+ */
+public record MatchStartEvent(SndArena arena) implements GameEvent {
+}
@@ -0,0 +1,12 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import org.bukkit.entity.Player;
+
+/**
+ * A player died and is out for the rest of the round.
+ *
+ * @param killer killing player, or null
+ */
+public record PlayerEliminatedEvent(SndArena arena, Player victim, Player killer) implements GameEvent {
+}
@@ -0,0 +1,10 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.game.Team;
+
+/**
+ * A round has been decided.
+ */
+public record RoundEndEvent(SndArena arena, int round, Team winner) implements GameEvent {
+}
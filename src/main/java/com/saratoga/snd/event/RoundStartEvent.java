@@ -0,0 +1,10 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.game.Team;
+
+/**
+ * A new round has begun (players are back in the lobby).
+ */
+public record RoundStartEvent(SndArena arena, int round, Team attackingTeam) implements GameEvent {
+}
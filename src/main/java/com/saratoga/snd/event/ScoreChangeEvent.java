@@ -0,0 +1,9 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+
+/**
+ * Team scores changed.
+ */
+public record ScoreChangeEvent(SndArena arena, int redScore, int blueScore) implements GameEvent {
+}
@@ -0,0 +1,40 @@
+package com.saratoga.snd.event;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bukkit event wrapping an internal {@link GameEvent} for other plugins.
+ * Only fired when at least one listener is registered.
+ */
+public class SndGameEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final GameEvent gameEvent;
+
+    public SndGameEvent(GameEvent gameEvent) {
+        this.gameEvent = gameEvent;
+    }
+
+    public GameEvent getGameEvent() {
+        return gameEvent;
+    }
+
+    /**
+     * Check if any plugin listens for this event.
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,14 @@
+package com.saratoga.snd.event;
+
+import com.saratoga.snd.arena.SndArena;
+
+/**
+ * A visible countdown changed its remaining seconds.
+ */
+public record TimerTickEvent(SndArena arena, Timer timer, int secondsRemaining) implements GameEvent {
+
+    public enum Timer {
+        ROUND,
+        EXPLOSION
+    }
+}
@@ -0,0 +1,86 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.arena.SndArena;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * Players currently planting or defusing, across all arenas.
+ * At most one action runs per arena, so this is a tiny array matched by
+ * identity. Each arena's tick calls {@link #tick(SndArena)} to advance its
+ * action and check the movement tolerance.
+ */
+public final class ActionRegistry {
+
+    private Player[] players = new Player[4];
+    private Bomb[] bombs = new Bomb[4];
+    private volatile int size;
+
+    /**
+     * Register a player as planting or defusing a bomb.
+     */
+    public synchronized void register(Player player, Bomb bomb) {
+        for (int i = 0; i < size; i++) {
+            if (players[i] == player) {
+                bombs[i] = bomb;
+                return;
+            }
+        }
+        if (size == players.length) {
+            players = Arrays.copyOf(players, size * 2);
+            bombs = Arrays.copyOf(bombs, size * 2);
+        }
+        players[size] = player;
+        bombs[size] = bomb;
+        size++;
+    }
+
+    /**
+     * Remove a player's action.
+     */
+    public synchronized void unregister(Player player) {
+        for (int i = 0; i < size; i++) {
+            if (players[i] == player) {
+                // Swap-remove, order doesn't matter
+                size--;
+                players[i] = players[size];
+                bombs[i] = bombs[size];
+                players[size] = null;
+                bombs[size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Advance the running action of an arena by one tick.
+     */
+    public void tick(SndArena arena) {
+        if (size == 0)
+            return;
+
+        Bomb active = null;
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                if (bombs[i].getArena() == arena) {
+                    active = bombs[i];
+                    break;
+                }
+            }
+        }
+        // Outside the lock: completion runs game logic that unregisters
+        if (active != null) {
+            active.tickAction();
+        }
+    }
+
+    /**
+     * Remove all actions.
+     */
+    public synchronized void clear() {
+        Arrays.fill(players, 0, size, null);
+        Arrays.fill(bombs, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.saratoga.snd.game;
+
+/**
+ * How much a player may move or look away while planting/defusing.
+ *
+ * @param maxMoveDistance    max drift from the position the action started at
+ * @param maxRotation        max head rotation in degrees since the start (0 = unlimited)
+ * @param defuseRange        max distance from the planted bomb when defusing
+ * @param defuseLookAngle    defuser must look within this many degrees of the bomb (0 = off)
+ * @param defuseLineOfSight  defuser must have line of sight to the bomb
+ */
+public record ActionTolerance(
+        double maxMoveDistance,
+        double maxRotation,
+        double defuseRange,
+        double defuseLookAngle,
+        boolean defuseLineOfSight) {
+}
@@ -1,17 +1,19 @@
 package com.saratoga.snd.game;
 
 import com.saratoga.snd.SearchAndDestroy;
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.arena.SndMap;
+import com.saratoga.snd.event.BombStateChangeEvent;
+import com.saratoga.snd.event.TimerTickEvent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.entity.BlockDisplay;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.util.Vector;
 
 import java.util.UUID;
 
@@ -32,6 +34,7 @@ public class Bomb {
     }
 
     private final SearchAndDestroy plugin;
+    private final SndArena arena;
     private State state = State.NOT_SPAWNED;
 
     // Location
@@ -42,22 +45,34 @@ public class Bomb {
     private UUID carrier;
 
     // Planted info
-    private String plantedSite; // "A" or "B"
-    private int explosionTimer;
-    private BukkitTask explosionTask;
+    private String plantedSite;
+    private Deadline explosionDeadline;
+    private int explosionTimer; // Last published whole seconds
+    private Runnable onExplode;
 
     // Planted TNT display
     private BlockDisplay plantedTntDisplay;
-    private Scoreboard glowScoreboard;
-    private org.bukkit.scoreboard.Team glowTeam;
+    private Location plantedCenter;
 
-    // Action progress
-    private UUID actionPlayer; // Player planting or defusing
-    private int actionProgress; // Ticks remaining
-    private BukkitTask actionTask;
+    // Action progress (advanced by the plugin-wide ActionRegistry)
+    private Player actionPlayer; // Player planting or defusing
+    private Deadline actionDeadline;
+    private Location actionAnchor; // Where the action started
+    private Runnable actionComplete;
 
-    public Bomb(SearchAndDestroy plugin) {
+    public Bomb(SearchAndDestroy plugin, SndArena arena) {
         this.plugin = plugin;
+        this.arena = arena;
+    }
+
+    /**
+     * Change state and notify listeners if it actually changed.
+     */
+    private void setState(State newState) {
+        if (state == newState)
+            return;
+        state = newState;
+        arena.getEventBus().publish(new BombStateChangeEvent(arena, newState));
     }
 
     /**
@@ -65,84 +80,59 @@ public class Bomb {
      */
     public void spawn(Location location) {
         this.location = location;
-        this.state = State.DROPPED;
-
-        ItemStack bombStack = new ItemStack(plugin.getMainConfig().getBombItem());
-        var meta = bombStack.getItemMeta();
-        meta.displayName(net.kyori.adventure.text.Component.text("爆弾",
-                net.kyori.adventure.text.format.NamedTextColor.RED,
-                net.kyori.adventure.text.format.TextDecoration.BOLD));
-        meta.lore(java.util.List.of(
-                net.kyori.adventure.text.Component.text("爆弾サイトで右クリックで設置",
-                        net.kyori.adventure.text.format.NamedTextColor.GRAY)));
-        bombStack.setItemMeta(meta);
+        setState(State.DROPPED);
 
-        this.droppedItem = location.getWorld().dropItem(location, bombStack);
-        this.droppedItem.setCustomName("§c§l爆弾");
-        this.droppedItem.setCustomNameVisible(true);
-        this.droppedItem.setGlowing(true);
+        placeDroppedItem(location);
     }
 
     /**
      * Player picks up bomb.
      */
     public void pickup(UUID playerId) {
-        if (droppedItem != null) {
-            droppedItem.remove();
-            droppedItem = null;
-        }
+        arena.getEntityPool().park(droppedItem);
+        droppedItem = null;
         this.carrier = playerId;
-        this.state = State.CARRIED;
+        setState(State.CARRIED);
     }
 
     /**
      * Drop bomb at location.
      */
     public void drop(Location loc) {
+        cancelAction();
         this.carrier = null;
         this.location = loc;
-        this.state = State.DROPPED;
+        setState(State.DROPPED);
 
-        ItemStack bombStack = new ItemStack(plugin.getMainConfig().getBombItem());
+        placeDroppedItem(loc);
+    }
+
+    /**
+     * Put the pooled bomb item on the ground.
+     */
+    private void placeDroppedItem(Location loc) {
+        ItemStack bombStack = new ItemStack(arena.getProfile().bombItem());
         var meta = bombStack.getItemMeta();
         meta.displayName(net.kyori.adventure.text.Component.text("爆弾",
                 net.kyori.adventure.text.format.NamedTextColor.RED,
                 net.kyori.adventure.text.format.TextDecoration.BOLD));
+        meta.lore(java.util.List.of(
+                net.kyori.adventure.text.Component.text("爆弾サイトで右クリックで設置",
+                        net.kyori.adventure.text.format.NamedTextColor.GRAY)));
         bombStack.setItemMeta(meta);
 
-        this.droppedItem = loc.getWorld().dropItem(loc, bombStack);
+        this.droppedItem = arena.getEntityPool().bombItem(loc, bombStack);
         this.droppedItem.setCustomName("§c§l爆弾");
         this.droppedItem.setCustomNameVisible(true);
         this.droppedItem.setGlowing(true);
     }
 
     /**
-     * Start planting process.
+     * Start planting process at a site, using the site's plant time if it has one.
      */
-    public void startPlanting(UUID playerId, Runnable onComplete) {
-        this.state = State.PLANTING;
-        this.actionPlayer = playerId;
-        int totalTicks = plugin.getMainConfig().getPlantTime() * 20;
-        this.actionProgress = totalTicks;
-
-        this.actionTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            actionProgress--;
-
-            // Show progress bar to player
-            Player player = Bukkit.getPlayer(actionPlayer);
-            if (player != null) {
-                player.sendActionBar(createProgressBar("爆弾設置中", actionProgress, totalTicks, NamedTextColor.RED));
-            }
-
-            if (actionProgress <= 0) {
-                actionTask.cancel();
-                actionTask = null;
-                if (player != null) {
-                    player.sendActionBar(Component.text("設置完了！", NamedTextColor.GOLD));
-                }
-                onComplete.run();
-            }
-        }, 0L, 1L);
+    public void startPlanting(Player player, SndMap.BombSite site, Runnable onComplete) {
+        setState(State.PLANTING);
+        startAction(player, site.plantTimeOr(arena.getProfile().plantTime()), onComplete);
     }
 
     /**
@@ -151,104 +141,199 @@ public class Bomb {
     public void plant(String siteName, Location loc, Runnable onExplode) {
         cancelAction();
 
-        this.state = State.PLANTED;
+        setState(State.PLANTED);
         this.plantedSite = siteName;
         this.location = loc;
         this.carrier = null;
-        this.explosionTimer = plugin.getMainConfig().getExplosionTime();
 
         // Spawn glowing TNT block display
         spawnPlantedTntDisplay(loc);
+        this.plantedCenter = loc.clone().add(0.5, 0.5, 0.5);
 
-        // Start explosion countdown
-        this.explosionTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            explosionTimer--;
-            if (explosionTimer <= 0) {
-                explosionTask.cancel();
-                explosionTask = null;
-                this.state = State.EXPLODED;
-                removePlantedTntDisplay();
-                onExplode.run();
-            }
-        }, 20L, 20L);
+        // Start explosion countdown; GameManager.tick checks the deadline
+        this.explosionDeadline = Deadline.afterSeconds(arena.getClock(), arena.getProfile().explosionTime());
+        this.explosionTimer = explosionDeadline.remainingSeconds();
+        this.onExplode = onExplode;
     }
 
     /**
-     * Spawn a glowing TNT BlockDisplay at the planted location.
+     * Publish the explosion countdown when its second changes and explode at the deadline.
+     */
+    void tickExplosion() {
+        if (explosionDeadline == null)
+            return;
+        int remaining = explosionDeadline.remainingSeconds();
+        if (remaining == explosionTimer)
+            return;
+        explosionTimer = remaining;
+        arena.getEventBus().publish(new TimerTickEvent(arena, TimerTickEvent.Timer.EXPLOSION, explosionTimer));
+        if (explosionTimer <= 0) {
+            Runnable explode = onExplode;
+            cancelExplosion();
+            setState(State.EXPLODED);
+            removePlantedTntDisplay();
+            explode.run();
+        }
+    }
+
+    /**
+     * Show the glowing TNT BlockDisplay at the planted location.
      */
     private void spawnPlantedTntDisplay(Location loc) {
         // Remove old one if exists
         removePlantedTntDisplay();
 
-        // Create BlockDisplay
-        plantedTntDisplay = loc.getWorld().spawn(loc, BlockDisplay.class, display -> {
-            display.setBlock(Material.TNT.createBlockData());
-            display.setGlowing(true);
-            display.setGlowColorOverride(org.bukkit.Color.RED);
-        });
-
-        // Set up scoreboard team for red glow color
-        glowScoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        glowTeam = glowScoreboard.registerNewTeam("plantedBomb");
-        glowTeam.color(NamedTextColor.RED);
-        glowTeam.addEntity(plantedTntDisplay);
+        // Reuse the arena's BlockDisplay (red via its glow colour override)
+        plantedTntDisplay = arena.getEntityPool().plantedDisplay(loc);
     }
 
     /**
-     * Remove the planted TNT display.
+     * Park the planted TNT display.
      */
     private void removePlantedTntDisplay() {
-        if (plantedTntDisplay != null && !plantedTntDisplay.isDead()) {
-            plantedTntDisplay.remove();
+        if (plantedTntDisplay != null) {
+            arena.getEntityPool().park(plantedTntDisplay);
             plantedTntDisplay = null;
         }
-        if (glowTeam != null) {
-            glowTeam.unregister();
-            glowTeam = null;
-        }
-        glowScoreboard = null;
     }
 
     /**
      * Start defusing process.
      */
-    public void startDefusing(UUID playerId, Runnable onComplete) {
-        this.state = State.DEFUSING;
-        this.actionPlayer = playerId;
-        int totalTicks = plugin.getMainConfig().getDefuseTime() * 20;
-        this.actionProgress = totalTicks;
-
-        this.actionTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            actionProgress--;
-
-            // Show progress bar to player
-            Player player = Bukkit.getPlayer(actionPlayer);
-            if (player != null) {
-                player.sendActionBar(createProgressBar("爆弾解除中", actionProgress, totalTicks, NamedTextColor.GREEN));
-            }
+    public void startDefusing(Player player, Runnable onComplete) {
+        setState(State.DEFUSING);
+        startAction(player, arena.getProfile().defuseTime(), onComplete);
+    }
+
+    /**
+     * Register a timed action; progress is checked by the action registry tick.
+     */
+    private void startAction(Player player, int seconds, Runnable onComplete) {
+        this.actionPlayer = player;
+        this.actionDeadline = Deadline.afterSeconds(arena.getClock(), seconds);
+        this.actionAnchor = player.getLocation();
+        this.actionComplete = onComplete;
+        plugin.getActionRegistry().register(player, this);
+    }
+
+    /**
+     * Update the running plant/defuse and complete it at its deadline.
+     * Cancels it if the player left the configured tolerance.
+     */
+    void tickAction() {
+        Player player = actionPlayer;
+        if (player == null || actionComplete == null)
+            return;
+
+        boolean planting = state == State.PLANTING;
+        if (!isWithinTolerance(player, planting)) {
+            cancelAction();
+            player.sendActionBar(Component.text(planting ? "設置中断" : "解除中断", NamedTextColor.GRAY));
+            return;
+        }
+
+        double progress = actionDeadline.progress();
 
-            if (actionProgress <= 0) {
-                actionTask.cancel();
-                actionTask = null;
-                if (player != null) {
-                    player.sendActionBar(Component.text("解除完了！", NamedTextColor.GREEN));
-                }
-                onComplete.run();
+        // Show progress bar to player
+        if (planting) {
+            player.sendActionBar(createProgressBar("爆弾設置中", progress, NamedTextColor.RED));
+        } else {
+            player.sendActionBar(createProgressBar("爆弾解除中", progress, NamedTextColor.GREEN));
+        }
+
+        if (actionDeadline.isExpired()) {
+            Runnable onComplete = actionComplete;
+            actionComplete = null;
+            if (planting) {
+                player.sendActionBar(Component.text("設置完了！", NamedTextColor.GOLD));
+            } else {
+                player.sendActionBar(Component.text("解除完了！", NamedTextColor.GREEN));
+            }
+            onComplete.run();
+            // The game rejected the completion (round already over): don't stay mid-action
+            if (state == State.PLANTING || state == State.DEFUSING) {
+                cancelAction();
             }
-        }, 0L, 1L);
+        }
+    }
+
+    /**
+     * Check movement and rotation since the action started, plus defuse
+     * range, facing and line of sight.
+     */
+    private boolean isWithinTolerance(Player player, boolean planting) {
+        if (!player.isValid())
+            return false;
+
+        ActionTolerance tolerance = arena.getProfile().actionTolerance();
+        Location current = player.getLocation();
+        if (current.getWorld() != actionAnchor.getWorld())
+            return false;
+
+        double maxMove = tolerance.maxMoveDistance();
+        if (current.distanceSquared(actionAnchor) > maxMove * maxMove)
+            return false;
+
+        if (tolerance.maxRotation() > 0) {
+            float yaw = Math.abs(wrapDegrees(current.getYaw() - actionAnchor.getYaw()));
+            float pitch = Math.abs(current.getPitch() - actionAnchor.getPitch());
+            if (Math.max(yaw, pitch) > tolerance.maxRotation())
+                return false;
+        }
+
+        return planting || isDefusableFrom(player);
+    }
+
+    /**
+     * Check if a player is close enough to and facing the planted bomb.
+     */
+    public boolean isDefusableFrom(Player player) {
+        if (plantedCenter == null)
+            return false;
+
+        ActionTolerance tolerance = arena.getProfile().actionTolerance();
+        Location eye = player.getEyeLocation();
+        World world = eye.getWorld();
+        if (world != plantedCenter.getWorld())
+            return false;
+
+        double range = tolerance.defuseRange();
+        if (player.getLocation().distanceSquared(plantedCenter) > range * range)
+            return false;
+
+        if (tolerance.defuseLookAngle() > 0) {
+            Vector toBomb = plantedCenter.toVector().subtract(eye.toVector());
+            if (toBomb.lengthSquared() > 1.0E-6
+                    && Math.toDegrees(eye.getDirection().angle(toBomb)) > tolerance.defuseLookAngle())
+                return false;
+        }
+
+        if (tolerance.defuseLineOfSight() && plantedTntDisplay != null && !plantedTntDisplay.isDead()) {
+            return player.hasLineOfSight(plantedTntDisplay);
+        }
+        return true;
+    }
+
+    private static float wrapDegrees(float degrees) {
+        float wrapped = degrees % 360.0f;
+        if (wrapped >= 180.0f)
+            wrapped -= 360.0f;
+        if (wrapped < -180.0f)
+            wrapped += 360.0f;
+        return wrapped;
     }
 
     /**
      * Create a progress bar component.
      */
-    private Component createProgressBar(String label, int remaining, int total, NamedTextColor color) {
+    private Component createProgressBar(String label, double progress, NamedTextColor color) {
         int barLength = 20;
-        int filled = (int) ((double) (total - remaining) / total * barLength);
+        int filled = (int) (progress * barLength);
         StringBuilder bar = new StringBuilder();
         for (int i = 0; i < barLength; i++) {
             bar.append(i < filled ? "█" : "░");
         }
-        int percent = (int) ((double) (total - remaining) / total * 100);
+        int percent = (int) (progress * 100);
         return Component.text(label + " ", NamedTextColor.WHITE)
                 .append(Component.text("[", NamedTextColor.GRAY))
                 .append(Component.text(bar.toString(), color))
@@ -262,25 +347,26 @@ public class Bomb {
     public void defuse() {
         cancelAction();
         cancelExplosion();
-        this.state = State.DEFUSED;
+        setState(State.DEFUSED);
     }
 
     /**
      * Cancel current action (plant/defuse).
      */
     public void cancelAction() {
-        if (actionTask != null) {
-            actionTask.cancel();
-            actionTask = null;
+        actionComplete = null;
+        actionAnchor = null;
+        if (actionPlayer != null) {
+            plugin.getActionRegistry().unregister(actionPlayer);
+            actionPlayer = null;
         }
-        actionPlayer = null;
-        actionProgress = 0;
+        actionDeadline = null;
 
         // Revert state
         if (state == State.PLANTING) {
-            state = State.CARRIED;
+            setState(State.CARRIED);
         } else if (state == State.DEFUSING) {
-            state = State.PLANTED;
+            setState(State.PLANTED);
         }
     }
 
@@ -288,10 +374,8 @@ public class Bomb {
      * Cancel explosion timer.
      */
     public void cancelExplosion() {
-        if (explosionTask != null) {
-            explosionTask.cancel();
-            explosionTask = null;
-        }
+        explosionDeadline = null;
+        onExplode = null;
     }
 
     /**
@@ -301,11 +385,9 @@ public class Bomb {
         cancelAction();
         cancelExplosion();
         removePlantedTntDisplay();
-        if (droppedItem != null) {
-            droppedItem.remove();
-            droppedItem = null;
-        }
-        state = State.NOT_SPAWNED;
+        arena.getEntityPool().park(droppedItem);
+        droppedItem = null;
+        setState(State.NOT_SPAWNED);
     }
 
     // Getters
@@ -313,6 +395,10 @@ public class Bomb {
         return state;
     }
 
+    SndArena getArena() {
+        return arena;
+    }
+
     public Location getLocation() {
         return location;
     }
@@ -329,12 +415,15 @@ public class Bomb {
         return explosionTimer;
     }
 
-    public UUID getActionPlayer() {
+    public Player getActionPlayer() {
         return actionPlayer;
     }
 
-    public int getActionProgress() {
-        return actionProgress;
+    /**
+     * Fraction of the running plant/defuse completed, or 0 if none.
+     */
+    public double getActionProgress() {
+        return actionDeadline != null ? actionDeadline.progress() : 0;
     }
 
     public Item getDroppedItem() {
@@ -0,0 +1,132 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.arena.SndArena;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.damage.DamageType;
+import org.bukkit.entity.Player;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The bomb going off. Damage is dealt at once to the arena's players in
+ * range; particles and block destruction are spread over ticks, each under
+ * its own per-tick budget, so a large blast can't spike one tick.
+ * Destroyed blocks go into the arena's block log and are restored after the
+ * match.
+ */
+public class BombExplosion {
+
+    private final SndArena arena;
+    private final ExplosionSettings settings;
+    private final Location center;
+    private final World world;
+    private final int radius;
+
+    // Block cursor over the cube around the centre
+    private int dx, dy, dz;
+    private boolean blocksDone;
+    private int particlesLeft;
+
+    public BombExplosion(SndArena arena, ExplosionSettings settings, Location center) {
+        this.arena = arena;
+        this.settings = settings;
+        this.center = center.clone();
+        this.world = center.getWorld();
+        this.radius = (int) Math.ceil(settings.radius());
+        this.dx = this.dy = this.dz = -radius;
+        this.blocksDone = !settings.destroyBlocks() || radius == 0;
+        this.particlesLeft = settings.particles();
+    }
+
+    /**
+     * Sound, the central flash and damage. Deaths caused here are reported
+     * through the normal death handling.
+     */
+    public void detonate() {
+        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 4.0f, 0.8f);
+        world.spawnParticle(Particle.EXPLOSION_EMITTER, center, 1);
+
+        double radius = settings.radius();
+        if (radius <= 0 || settings.maxDamage() <= 0)
+            return;
+        DamageSource source = DamageSource.builder(DamageType.EXPLOSION).withDamageLocation(center).build();
+        for (PlayerData data : arena.getPlayers().values()) {
+            if (!data.isAlive())
+                continue;
+            Player player = data.getPlayer();
+            if (player == null || !player.isOnline() || player.getWorld() != world)
+                continue;
+            double distance = player.getLocation().distance(center);
+            if (distance >= radius)
+                continue;
+            player.damage(settings.maxDamage() * (1 - distance / radius), source);
+        }
+    }
+
+    /**
+     * Work through one tick's budget of particles and blocks.
+     *
+     * @return true when everything is done
+     */
+    public boolean tick() {
+        tickParticles();
+        if (!blocksDone) {
+            tickBlocks();
+        }
+        return blocksDone && particlesLeft == 0;
+    }
+
+    private void tickParticles() {
+        int count = Math.min(particlesLeft, settings.particlesPerTick());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double r = settings.radius();
+        for (int i = 0; i < count; i++) {
+            world.spawnParticle(Particle.EXPLOSION,
+                    center.getX() + random.nextDouble(-r, r) * 0.7,
+                    center.getY() + random.nextDouble(0, r) * 0.5,
+                    center.getZ() + random.nextDouble(-r, r) * 0.7, 1);
+        }
+        particlesLeft -= count;
+    }
+
+    private void tickBlocks() {
+        double radiusSq = settings.radius() * settings.radius();
+        int cx = center.getBlockX();
+        int cy = center.getBlockY();
+        int cz = center.getBlockZ();
+        for (int budget = settings.blocksPerTick(); budget > 0; budget--) {
+            if (dx * dx + dy * dy + dz * dz <= radiusSq) {
+                Block block = world.getBlockAt(cx + dx, cy + dy, cz + dz);
+                if (arena.getMap().isDestructible(block.getType())) {
+                    arena.getBlockLog().record(block);
+                    block.setType(Material.AIR, false);
+                }
+            }
+            if (!advance()) {
+                blocksDone = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Move the cursor to the next position, z fastest.
+     *
+     * @return false past the last position
+     */
+    private boolean advance() {
+        if (++dz <= radius)
+            return true;
+        dz = -radius;
+        if (++dy <= radius)
+            return true;
+        dy = -radius;
+        return ++dx <= radius;
+    }
+}
@@ -0,0 +1,82 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.arena.SndArena;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chest menu listing the shop of the running match.
+ * The last slot shows the viewer's money.
+ */
+public class BuyMenu implements InventoryHolder {
+
+    private final SndArena arena;
+    private final Player viewer;
+    private final List<Loadouts.ShopItem> items;
+    private final Inventory inventory;
+
+    public BuyMenu(SndArena arena, Player viewer) {
+        this.arena = arena;
+        this.viewer = viewer;
+        this.items = new ArrayList<>(arena.getGameManager().getConfig().getLoadouts().getShop().values());
+        int size = Math.min(54, (items.size() / 9 + 1) * 9);
+        this.inventory = Bukkit.createInventory(this, size, Component.text("ショップ", NamedTextColor.DARK_GREEN));
+
+        for (int i = 0; i < items.size() && i < size - 1; i++) {
+            inventory.setItem(i, icon(items.get(i)));
+        }
+        updateMoney();
+    }
+
+    private static ItemStack icon(Loadouts.ShopItem item) {
+        ItemStack icon = new ItemStack(item.icon());
+        icon.editMeta(meta -> {
+            meta.displayName(Component.text(item.name(), NamedTextColor.YELLOW)
+                    .decoration(TextDecoration.ITALIC, false));
+            meta.lore(List.of(Component.text("$" + item.price(), NamedTextColor.GREEN)
+                    .decoration(TextDecoration.ITALIC, false)));
+        });
+        return icon;
+    }
+
+    /**
+     * Refresh the money display.
+     */
+    public void updateMoney() {
+        PlayerData data = arena.getPlayerData(viewer);
+        int money = data != null ? data.getMoney() : 0;
+        ItemStack wallet = new ItemStack(Material.GOLD_NUGGET);
+        wallet.editMeta(meta -> meta.displayName(Component.text("所持金: $" + money, NamedTextColor.GOLD)
+                .decoration(TextDecoration.ITALIC, false)));
+        inventory.setItem(inventory.getSize() - 1, wallet);
+    }
+
+    /**
+     * Shop item in a slot, or null.
+     */
+    public Loadouts.ShopItem getItem(int slot) {
+        if (slot < 0 || slot >= items.size() || slot >= inventory.getSize() - 1)
+            return null;
+        return items.get(slot);
+    }
+
+    public SndArena getArena() {
+        return arena;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+}
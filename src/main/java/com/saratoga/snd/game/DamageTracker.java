@@ -0,0 +1,162 @@
+package com.saratoga.snd.game;
+
+import org.bukkit.Material;
+
+import java.util.Arrays;
+
+/**
+ * Who damaged whom during one round, in flat arrays indexed by the arena's
+ * player slots. Recording a hit is a few array writes; the kill feed and the
+ * round summary read the totals back.
+ */
+public class DamageTracker {
+
+    // Damage below this doesn't earn an assist
+    private static final float ASSIST_MIN_DAMAGE = 4.0f;
+    // A hit older than this no longer earns the kill
+    private static final long KILL_CREDIT_NANOS = 5_000_000_000L;
+
+    private final int slots;
+    // [attacker * slots + victim] -> damage dealt this round
+    private final float[] damage;
+    // Per victim: the last hit
+    private final int[] lastAttacker;
+    private final Material[] lastWeapon;
+    private final boolean[] lastHeadshot;
+    private final long[] lastHitAt;
+    // Per player: round totals
+    private final int[] kills;
+    private final int[] assists;
+    private final int[] headshots;
+    private final float[] dealt;
+
+    public DamageTracker(int slots) {
+        this.slots = slots;
+        this.damage = new float[slots * slots];
+        this.lastAttacker = new int[slots];
+        this.lastWeapon = new Material[slots];
+        this.lastHeadshot = new boolean[slots];
+        this.lastHitAt = new long[slots];
+        this.kills = new int[slots];
+        this.assists = new int[slots];
+        this.headshots = new int[slots];
+        this.dealt = new float[slots];
+        reset();
+    }
+
+    /**
+     * Forget everything, at the start of a round.
+     */
+    public void reset() {
+        Arrays.fill(damage, 0);
+        forgetLastHits();
+        Arrays.fill(kills, 0);
+        Arrays.fill(assists, 0);
+        Arrays.fill(headshots, 0);
+        Arrays.fill(dealt, 0);
+    }
+
+    /**
+     * Record a hit by one player on another.
+     *
+     * @param amount damage actually taken, capped at the victim's health
+     * @param now    clock time of the hit, in nanoseconds
+     */
+    public void recordHit(int attacker, int victim, float amount, Material weapon, boolean headshot, long now) {
+        if (!valid(attacker) || !valid(victim) || attacker == victim)
+            return;
+        damage[attacker * slots + victim] += amount;
+        dealt[attacker] += amount;
+        lastAttacker[victim] = attacker;
+        lastWeapon[victim] = weapon;
+        lastHeadshot[victim] = headshot;
+        lastHitAt[victim] = now;
+    }
+
+    /**
+     * Drop every victim's last hit so the next deaths go uncredited. Damage
+     * totals and assists are kept.
+     */
+    public void forgetLastHits() {
+        Arrays.fill(lastAttacker, -1);
+        Arrays.fill(lastWeapon, null);
+        Arrays.fill(lastHeadshot, false);
+    }
+
+    /**
+     * Close out a death: credit the kill to the last attacker and assists
+     * to everyone else who did enough damage, then clear the victim's
+     * incoming damage.
+     *
+     * @param fallbackKiller killer slot to use if no recent hit was recorded, or -1
+     * @param now            clock time of the death, in nanoseconds
+     */
+    public Kill recordDeath(int victim, int fallbackKiller, long now) {
+        if (!valid(victim))
+            return new Kill(-1, victim, new int[0], null, false);
+        boolean recent = lastAttacker[victim] >= 0 && now - lastHitAt[victim] <= KILL_CREDIT_NANOS;
+        int killer = recent ? lastAttacker[victim] : fallbackKiller;
+        Material weapon = recent ? lastWeapon[victim] : null;
+        boolean headshot = recent && lastHeadshot[victim];
+
+        int[] assisters = new int[slots];
+        int assistCount = 0;
+        for (int attacker = 0; attacker < slots; attacker++) {
+            int index = attacker * slots + victim;
+            if (attacker != killer && damage[index] >= ASSIST_MIN_DAMAGE) {
+                assisters[assistCount++] = attacker;
+                assists[attacker]++;
+            }
+            damage[index] = 0;
+        }
+        if (valid(killer) && killer != victim) {
+            kills[killer]++;
+            if (headshot) {
+                headshots[killer]++;
+            }
+        } else {
+            killer = -1;
+        }
+        lastAttacker[victim] = -1;
+        lastWeapon[victim] = null;
+        lastHeadshot[victim] = false;
+        return new Kill(killer, victim, Arrays.copyOf(assisters, assistCount), weapon, headshot);
+    }
+
+    public int getKills(int slot) {
+        return valid(slot) ? kills[slot] : 0;
+    }
+
+    public int getAssists(int slot) {
+        return valid(slot) ? assists[slot] : 0;
+    }
+
+    public int getHeadshots(int slot) {
+        return valid(slot) ? headshots[slot] : 0;
+    }
+
+    public float getDamageDealt(int slot) {
+        return valid(slot) ? dealt[slot] : 0;
+    }
+
+    /**
+     * Number of slots this tracker covers.
+     */
+    public int getSlotCount() {
+        return slots;
+    }
+
+    private boolean valid(int slot) {
+        return slot >= 0 && slot < slots;
+    }
+
+    /**
+     * One death as credited.
+     *
+     * @param killer    killer slot, or -1 if nobody gets the kill
+     * @param assisters slots with an assist
+     * @param weapon    weapon of the final hit, or null
+     */
+    public record Kill(int killer, int victim, int[] assisters, Material weapon, boolean headshot) {
+    }
+}
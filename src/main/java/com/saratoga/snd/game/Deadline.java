@@ -0,0 +1,43 @@
+package com.saratoga.snd.game;
+
+/**
+ * Absolute end time of a timer on a {@link GameClock}.
+ * Remaining time and progress are derived on demand, never counted down.
+ */
+public record Deadline(GameClock clock, long startNanos, long endNanos) {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Deadline the given number of seconds from now.
+     */
+    public static Deadline afterSeconds(GameClock clock, int seconds) {
+        long now = clock.nanoTime();
+        return new Deadline(clock, now, now + seconds * NANOS_PER_SECOND);
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, endNanos - clock.nanoTime());
+    }
+
+    /**
+     * Whole seconds left, rounded up, so a timer reads 0 only once it expired.
+     */
+    public int remainingSeconds() {
+        return (int) ((remainingNanos() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    public boolean isExpired() {
+        return clock.nanoTime() - endNanos >= 0;
+    }
+
+    /**
+     * Fraction of the time elapsed, from 0 to 1.
+     */
+    public double progress() {
+        long total = endNanos - startNanos;
+        if (total <= 0)
+            return 1.0;
+        return Math.min(1.0, Math.max(0.0, (double) (clock.nanoTime() - startNanos) / total));
+    }
+}
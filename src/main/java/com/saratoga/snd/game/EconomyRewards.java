@@ -0,0 +1,71 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.Messages;
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.event.BombDefusedEvent;
+import com.saratoga.snd.event.BombPlantedEvent;
+import com.saratoga.snd.event.EventBus;
+import com.saratoga.snd.event.PlayerEliminatedEvent;
+import com.saratoga.snd.event.RoundEndEvent;
+import org.bukkit.entity.Player;
+
+/**
+ * Pays round money on game events, using the match's economy rules.
+ */
+public class EconomyRewards {
+
+    /**
+     * Subscribe to the events that pay money.
+     */
+    public void register(EventBus bus) {
+        bus.subscribe(PlayerEliminatedEvent.class, e -> {
+            if (e.killer() == null)
+                return;
+            PlayerData killer = e.arena().getPlayerData(e.killer());
+            PlayerData victim = e.arena().getPlayerData(e.victim());
+            // No money for team kills
+            if (killer == null || victim == null || killer.getTeam() == victim.getTeam())
+                return;
+            pay(e.arena(), killer, rules(e.arena()).killReward(), "キル");
+        });
+        bus.subscribe(BombPlantedEvent.class, e -> {
+            PlayerData planter = e.arena().getPlayerData(e.planter());
+            if (planter != null) {
+                pay(e.arena(), planter, rules(e.arena()).plantReward(), "爆弾設置");
+            }
+        });
+        bus.subscribe(BombDefusedEvent.class, e -> {
+            PlayerData defuser = e.arena().getPlayerData(e.defuser());
+            if (defuser != null) {
+                pay(e.arena(), defuser, rules(e.arena()).defuseReward(), "爆弾解除");
+            }
+        });
+        bus.subscribe(RoundEndEvent.class, e -> {
+            EconomyRules rules = rules(e.arena());
+            for (PlayerData data : e.arena().getPlayers().values()) {
+                if (data.getTeam() == e.winner()) {
+                    pay(e.arena(), data, rules.roundWinReward(), "ラウンド勝利");
+                } else if (data.getTeam() != null) {
+                    pay(e.arena(), data, rules.roundLossReward(), "ラウンド敗北");
+                }
+            }
+        });
+    }
+
+    private static EconomyRules rules(SndArena arena) {
+        return arena.getConfig().getEconomy();
+    }
+
+    /**
+     * Add money up to the cap and show it on the action bar.
+     */
+    private static void pay(SndArena arena, PlayerData data, int amount, String reason) {
+        if (amount <= 0)
+            return;
+        data.setMoney(Math.min(rules(arena).maxMoney(), data.getMoney() + amount));
+        Player player = data.getPlayer();
+        if (player != null && player.isOnline()) {
+            player.sendActionBar(Messages.reward(amount, reason));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.saratoga.snd.game;
+
+/**
+ * Money rules for a match.
+ *
+ * @param startMoney      money every player has when the match starts
+ * @param maxMoney        money cap
+ * @param killReward      for killing an enemy
+ * @param plantReward     for planting the bomb
+ * @param defuseReward    for defusing the bomb
+ * @param roundWinReward  for every player on the team that won the round
+ * @param roundLossReward for every player on the team that lost the round
+ */
+public record EconomyRules(
+        int startMoney,
+        int maxMoney,
+        int killReward,
+        int plantReward,
+        int defuseReward,
+        int roundWinReward,
+        int roundLossReward) {
+}
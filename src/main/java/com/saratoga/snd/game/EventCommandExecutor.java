@@ -1,9 +1,17 @@
 package com.saratoga.snd.game;
 
+import com.saratoga.snd.Config;
 import com.saratoga.snd.SearchAndDestroy;
+import com.saratoga.snd.arena.SndArena;
+import com.saratoga.snd.event.EventBus;
+import com.saratoga.snd.event.MatchEndEvent;
+import com.saratoga.snd.event.MatchStartEvent;
+import com.saratoga.snd.event.PlayerEliminatedEvent;
+import com.saratoga.snd.event.RoundStartEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +26,58 @@ public class EventCommandExecutor {
         this.plugin = plugin;
     }
 
+    /**
+     * Subscribe to the game events that have configurable commands.
+     */
+    public void register(EventBus bus) {
+        bus.subscribe(MatchStartEvent.class,
+                e -> executeArenaCommands(e.arena(), e.arena().getConfig().getGameStartCommands()));
+        bus.subscribe(RoundStartEvent.class,
+                e -> executeArenaCommands(e.arena(), e.arena().getConfig().getRoundStartCommands()));
+        bus.subscribe(MatchEndEvent.class, e -> {
+            // Abandoned matches don't count as a normal game end
+            if (!e.forced()) {
+                executeArenaCommands(e.arena(), e.arena().getConfig().getGameEndCommands());
+            }
+        });
+        bus.subscribe(PlayerEliminatedEvent.class, e -> {
+            if (e.killer() != null) {
+                executeKillCommands(e.arena(), e.killer(), e.victim());
+            }
+        });
+    }
+
+    /**
+     * Execute event commands with map placeholder.
+     */
+    private void executeArenaCommands(SndArena arena, List<String> commands) {
+        if (commands == null || commands.isEmpty())
+            return;
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("<map>", arena.getMap().getName());
+
+        executeCommands(commands, placeholders, null);
+    }
+
+    /**
+     * Execute player-kill commands.
+     */
+    private void executeKillCommands(SndArena arena, Player killer, Player victim) {
+        Config config = arena.getConfig();
+        List<String> commands = config.getPlayerKillCommands();
+        if (commands == null || commands.isEmpty())
+            return;
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("<map>", arena.getMap().getName());
+        placeholders.put("<killer>", killer.getName());
+        placeholders.put("<victim>", victim.getName());
+        placeholders.put("<player>", killer.getName());
+
+        executeCommands(commands, placeholders, killer);
+    }
+
     /**
      * Execute commands for an event.
      * 
@@ -0,0 +1,20 @@
+package com.saratoga.snd.game;
+
+/**
+ * What the bomb explosion does.
+ *
+ * @param radius           blast radius in blocks
+ * @param maxDamage        damage at the centre, falling off linearly to 0 at the radius
+ * @param particles        explosion particles spread over the blast sphere
+ * @param destroyBlocks    break the map's destructible blocks in the radius (restored after the match)
+ * @param blocksPerTick    block positions checked per tick
+ * @param particlesPerTick particles spawned per tick
+ */
+public record ExplosionSettings(
+        double radius,
+        double maxDamage,
+        int particles,
+        boolean destroyBlocks,
+        int blocksPerTick,
+        int particlesPerTick) {
+}
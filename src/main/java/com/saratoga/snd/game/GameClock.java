@@ -0,0 +1,18 @@
+package com.saratoga.snd.game;
+
+/**
+ * Time source for match timers.
+ * Timers store absolute deadlines against a clock instead of counting ticks,
+ * so server lag doesn't stretch rounds.
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /** Wall-clock time from {@link System#nanoTime()}. */
+    GameClock SYSTEM = System::nanoTime;
+
+    /**
+     * Monotonic time in nanoseconds. Only differences are meaningful.
+     */
+    long nanoTime();
+}
@@ -5,15 +5,24 @@ import com.saratoga.snd.Messages;
 import com.saratoga.snd.SearchAndDestroy;
 import com.saratoga.snd.arena.ArenaState;
 import com.saratoga.snd.arena.SndArena;
-import com.saratoga.snd.arena.SndMap;
+import com.saratoga.snd.arena.SpawnTable;
+import com.saratoga.snd.event.AliveCountChangeEvent;
+import com.saratoga.snd.event.BombDefusedEvent;
+import com.saratoga.snd.event.BombPlantedEvent;
+import com.saratoga.snd.event.MatchEndEvent;
+import com.saratoga.snd.event.MatchStartEvent;
+import com.saratoga.snd.event.PlayerEliminatedEvent;
+import com.saratoga.snd.event.RoundEndEvent;
+import com.saratoga.snd.event.RoundStartEvent;
+import com.saratoga.snd.event.ScoreChangeEvent;
+import com.saratoga.snd.event.TimerTickEvent;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Manages the game logic for a match.
@@ -22,13 +31,16 @@ public class GameManager {
 
     private final SndArena arena;
     private final SearchAndDestroy plugin;
-    private final Config config;
+    // Config snapshot and map rules pinned for the whole match
+    private Config config;
+    private MatchProfile profile;
 
     // Scores
     private int redScore = 0;
     private int blueScore = 0;
 
     // Round info
+    private RoundState roundState = RoundState.IDLE;
     private int currentRound = 0;
     private Team attackingTeam = Team.RED; // RED starts as attackers
 
@@ -39,30 +51,45 @@ public class GameManager {
     private BombSiteMarker siteMarker;
 
     // Round timer
-    private int roundTimeRemaining;
-    private BukkitTask roundTimerTask;
+    private Deadline roundDeadline;
+    private int roundTimeRemaining; // Last published whole seconds
 
-    // Event command executor
-    private final EventCommandExecutor eventExecutor;
+    // Particles and block damage of the last explosion, processed per tick
+    private BombExplosion explosion;
+    // Deaths from the blast don't decide the round; the explosion does
+    private boolean detonating;
+
+    // Per-round damage attribution by player slot, and the kill feed
+    private final DamageTracker damageTracker;
+    private final KillFeed killFeed;
+
+    // Kits, written in batches from the tick
+    private final LoadoutManager loadouts;
 
     public GameManager(SndArena arena) {
         this.arena = arena;
         this.plugin = arena.getPlugin();
-        this.config = plugin.getMainConfig();
-        this.eventExecutor = new EventCommandExecutor(plugin);
+        this.loadouts = new LoadoutManager(arena);
+        this.damageTracker = new DamageTracker(arena.getSlotCount());
+        this.killFeed = new KillFeed(arena);
     }
 
     /**
      * Start the match.
      */
     public void startMatch() {
+        this.profile = arena.getMap().getProfile(plugin.getMainConfig());
+        this.config = profile.config();
         this.redScore = 0;
         this.blueScore = 0;
         this.currentRound = 0;
         this.attackingTeam = Team.RED;
+        for (PlayerData data : arena.getPlayers().values()) {
+            data.setMoney(config.getEconomy().startMoney());
+            data.setCarried(null);
+        }
 
-        // Execute game-start commands
-        executeEventCommands(config.getGameStartCommands(), null);
+        arena.getEventBus().publish(new MatchStartEvent(arena));
 
         startNextRound();
     }
@@ -71,7 +98,11 @@ public class GameManager {
      * Cleanup all timers and bomb.
      */
     public void cleanup() {
+        // Teardown ends the match from any state, so no transition check
+        roundState = RoundState.MATCH_OVER;
         stopRoundTimer();
+        loadouts.clear();
+        explosion = null;
         if (bomb != null) {
             bomb.cleanup();
             bomb = null;
@@ -87,6 +118,8 @@ public class GameManager {
      * Used to drop bomb if they are carrying it.
      */
     public void onPlayerLeavePreRemove(org.bukkit.entity.Player player, boolean hasBomb) {
+        cancelActionBy(player);
+        arena.getEntityPool().hideFrom(player);
         if (hasBomb && bomb != null && bomb.getCarrier() != null
                 && bomb.getCarrier().equals(player.getUniqueId())) {
             bomb.drop(player.getLocation());
@@ -94,44 +127,67 @@ public class GameManager {
         }
     }
 
+    /**
+     * Stop a plant/defuse if this player is the one doing it.
+     */
+    private void cancelActionBy(Player player) {
+        if (bomb != null && bomb.getActionPlayer() == player) {
+            bomb.cancelAction();
+        }
+    }
+
     /**
      * Start the next round.
      */
     public void startNextRound() {
+        if (!moveTo(RoundState.PREPARING))
+            return;
         currentRound++;
+        damageTracker.reset();
 
         // Check for side swap
-        if (currentRound == config.getSwapSidesAfter() + 1) {
+        boolean swapped = currentRound == profile.swapSidesAfter() + 1;
+        if (swapped) {
             swapSides();
         }
 
         arena.broadcast(Messages.roundStart(currentRound));
         arena.broadcast(Messages.score(redScore, blueScore));
 
-        // Execute round-start commands
-        executeEventCommands(config.getRoundStartCommands(), null);
-
-        // Reset all players for new round
+        // Reset all players for new round and send them to the lobby first
+        loadouts.clear();
+        Location lobby = arena.getMap().getLobbySpawn();
+        RoundReset reset = new RoundReset();
         for (PlayerData data : arena.getPlayers().values()) {
-            data.resetForRound();
             Player player = data.getPlayer();
+            // Survivors keep what is left of their kit; the dead and a new side start from the base kit
+            boolean keep = currentRound > 1 && !swapped && data.isAlive() && player != null && player.isOnline();
+            data.setCarried(keep ? carriedContents(player) : null);
+            data.resetForRound();
             if (player != null && player.isOnline()) {
-                player.setGameMode(GameMode.ADVENTURE);
-                player.getInventory().clear();
-                player.setHealth(player.getMaxHealth());
+                reset.add(player, GameMode.ADVENTURE, loadouts.contentsFor(data), true, lobby);
             }
         }
-
-        // Teleport to lobby first
-        arena.teleportToLobby();
+        reset.apply();
         arena.setState(ArenaState.INTERMISSION);
+        arena.getEventBus().publish(new RoundStartEvent(arena, currentRound, attackingTeam));
 
         // Wait in lobby, then start round
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        arena.getScheduler().runLater(() -> {
+            // The match may have ended while waiting
+            if (!moveTo(RoundState.LIVE))
+                return;
             arena.setState(ArenaState.PLAYING);
 
-            // Teleport to spawns
-            arena.teleportToSpawns();
+            // Teleport to spawns, writing last-tick purchases before the bomb can be picked up
+            List<PlayerData> attackers = arena.getPlayersOnTeam(attackingTeam);
+            List<PlayerData> defenders = arena.getPlayersOnTeam(getDefendingTeam());
+            SpawnTable.Assignment spawns = arena.getMap().getSpawnTable()
+                    .assign(attackers.size(), defenders.size(), currentRound);
+            RoundReset toSpawns = new RoundReset();
+            addSpawnMoves(toSpawns, attackers, spawns.attackers());
+            addSpawnMoves(toSpawns, defenders, spawns.defenders());
+            toSpawns.apply();
 
             // Spawn bomb
             spawnBomb();
@@ -147,7 +203,31 @@ public class GameManager {
 
             // Start round timer
             startRoundTimer();
-        }, config.getLobbyWaitTime() * 20L);
+        }, profile.lobbyWaitTime() * 20L);
+    }
+
+    /**
+     * A survivor's inventory to carry into the next round, without the bomb.
+     */
+    private ItemStack[] carriedContents(Player player) {
+        ItemStack[] contents = player.getInventory().getContents();
+        for (int i = 0; i < contents.length; i++) {
+            if (contents[i] == null)
+                continue;
+            // Detach from the live inventory before it is overwritten
+            contents[i] = contents[i].getType() == profile.bombItem() ? null : contents[i].clone();
+        }
+        return contents;
+    }
+
+    private void addSpawnMoves(RoundReset reset, List<PlayerData> team, Location[] spawns) {
+        for (int i = 0; i < team.size(); i++) {
+            PlayerData data = team.get(i);
+            Player player = data.getPlayer();
+            if (player != null && player.isOnline()) {
+                reset.add(player, null, loadouts.takeDirty(data), false, i < spawns.length ? spawns[i] : null);
+            }
+        }
     }
 
     /**
@@ -158,7 +238,7 @@ public class GameManager {
             bomb.cleanup();
         }
 
-        bomb = new Bomb(plugin);
+        bomb = new Bomb(plugin, arena);
         Location attackerSpawn = arena.getMap().getAttackerSpawn();
         if (attackerSpawn != null) {
             bomb.spawn(attackerSpawn.clone().add(0, 1, 0));
@@ -169,41 +249,67 @@ public class GameManager {
      * Start round timer.
      */
     private void startRoundTimer() {
-        roundTimeRemaining = config.getRoundTimeLimit();
+        roundDeadline = Deadline.afterSeconds(arena.getClock(), profile.roundTimeLimit());
+        roundTimeRemaining = roundDeadline.remainingSeconds();
+        arena.getEventBus().publish(new TimerTickEvent(arena, TimerTickEvent.Timer.ROUND, roundTimeRemaining));
+    }
 
-        if (roundTimerTask != null) {
-            roundTimerTask.cancel();
+    /**
+     * Per-tick update from the arena: derive the round and explosion timers
+     * from their deadlines and act when a displayed second changes.
+     */
+    public void tick() {
+        loadouts.flush();
+        killFeed.flush();
+        // Runs on into the next round's lobby wait if it has to
+        if (explosion != null && explosion.tick()) {
+            explosion = null;
         }
+        switch (roundState) {
+            case LIVE -> {
+                if (roundDeadline != null) {
+                    tickRoundTimer();
+                }
+            }
+            case PLANTED -> {
+                if (bomb != null) {
+                    bomb.tickExplosion();
+                }
+            }
+            default -> {
+            }
+        }
+    }
 
-        roundTimerTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            roundTimeRemaining--;
+    private void tickRoundTimer() {
+        int remaining = roundDeadline.remainingSeconds();
+        if (remaining == roundTimeRemaining)
+            return;
+        roundTimeRemaining = remaining;
+        arena.getEventBus().publish(new TimerTickEvent(arena, TimerTickEvent.Timer.ROUND, roundTimeRemaining));
 
-            // Time announcements
-            if (roundTimeRemaining == 30 || roundTimeRemaining == 10 || roundTimeRemaining <= 5) {
-                arena.broadcast(Messages.timeRemaining(roundTimeRemaining));
-            }
+        // Time announcements
+        if (roundTimeRemaining == 30 || roundTimeRemaining == 10 || roundTimeRemaining <= 5) {
+            arena.broadcast(Messages.timeRemaining(roundTimeRemaining));
+        }
 
-            // Time's up
-            if (roundTimeRemaining <= 0) {
-                stopRoundTimer();
+        // Time's up
+        if (roundTimeRemaining <= 0) {
+            stopRoundTimer();
 
-                // If bomb not planted, defenders win
-                if (bomb == null || !bomb.isPlanted()) {
-                    endRound(getDefendingTeam());
-                }
-                // If bomb is planted, it will explode via its own timer
+            // If bomb not planted, defenders win
+            if (bomb == null || !bomb.isPlanted()) {
+                endRound(getDefendingTeam());
             }
-        }, 20L, 20L);
+            // If bomb is planted, it will explode via its own timer
+        }
     }
 
     /**
      * Stop round timer.
      */
     private void stopRoundTimer() {
-        if (roundTimerTask != null) {
-            roundTimerTask.cancel();
-            roundTimerTask = null;
-        }
+        roundDeadline = null;
     }
 
     /**
@@ -218,6 +324,9 @@ public class GameManager {
      * End the current round.
      */
     public void endRound(Team winner) {
+        // Only the first of several simultaneous round endings counts
+        if (!moveTo(RoundState.ENDED))
+            return;
         stopRoundTimer();
         if (bomb != null) {
             bomb.cleanup();
@@ -235,19 +344,23 @@ public class GameManager {
         } else {
             blueScore++;
         }
+        arena.getEventBus().publish(new ScoreChangeEvent(arena, redScore, blueScore));
+        arena.getEventBus().publish(new RoundEndEvent(arena, currentRound, winner));
 
         String winnerName = winner == Team.RED ? config.getRedTeamName() : config.getBlueTeamName();
+        killFeed.flush();
         arena.broadcast(Messages.roundWin(winnerName));
         arena.broadcast(Messages.score(redScore, blueScore));
+        sendRoundSummary();
 
         // Check for match win
-        if (redScore >= config.getRoundsToWin() || blueScore >= config.getRoundsToWin()) {
+        if (redScore >= profile.roundsToWin() || blueScore >= profile.roundsToWin()) {
             endMatch(winner);
             return;
         }
 
         // Check max rounds
-        if (currentRound >= config.getMaxRounds()) {
+        if (currentRound >= profile.maxRounds()) {
             // Tie or whoever has more
             Team matchWinner = redScore > blueScore ? Team.RED : Team.BLUE;
             endMatch(matchWinner);
@@ -262,11 +375,11 @@ public class GameManager {
      * End the match.
      */
     private void endMatch(Team winner) {
+        if (!moveTo(RoundState.MATCH_OVER))
+            return;
         String winnerName = winner == Team.RED ? config.getRedTeamName() : config.getBlueTeamName();
         arena.broadcast(Messages.matchWin(winnerName));
-
-        // Execute game-end commands
-        executeEventCommands(config.getGameEndCommands(), null);
+        arena.getEventBus().publish(new MatchEndEvent(arena, winner, redScore, blueScore, false));
 
         arena.endGame();
     }
@@ -280,6 +393,23 @@ public class GameManager {
             return;
 
         data.setAlive(false);
+        cancelActionBy(player);
+
+        // Deaths outside the round (lobby wait, after the result) earn no credit
+        if (!roundState.isInPlay() && !detonating)
+            return;
+
+        // Credit the last recent hit, else whoever the server names; the blast credits nobody
+        PlayerData vanillaKiller = player.getKiller() != null && !detonating
+                ? arena.getPlayerData(player.getKiller()) : null;
+        DamageTracker.Kill kill = damageTracker.recordDeath(data.getSlot(),
+                vanillaKiller != null ? vanillaKiller.getSlot() : -1, arena.getClock().nanoTime());
+        killFeed.add(kill);
+        PlayerData killerData = kill.killer() >= 0 ? arena.getPlayerBySlot(kill.killer()) : null;
+        Player killer = killerData != null ? killerData.getPlayer() : null;
+
+        arena.getEventBus().publish(new AliveCountChangeEvent(arena));
+        arena.getEventBus().publish(new PlayerEliminatedEvent(arena, player, killer));
 
         // Drop bomb if carrying
         if (data.hasBomb() && bomb != null) {
@@ -292,7 +422,7 @@ public class GameManager {
         player.setGameMode(GameMode.ADVENTURE);
         Location lobby = arena.getMap().getLobbySpawn();
         if (lobby != null) {
-            player.teleport(lobby);
+            player.teleportAsync(lobby);
         }
         Messages.send(player, Messages.PREFIX.append(
                 net.kyori.adventure.text.Component.text("待機部屋でラウンド終了をお待ちください。",
@@ -302,6 +432,51 @@ public class GameManager {
         checkTeamElimination();
     }
 
+    /**
+     * Record a hit between two arena players while a round is in play.
+     *
+     * @param amount damage actually taken
+     * @param weapon attacker's weapon, or null for bare hands
+     */
+    public void onPlayerDamaged(Player attacker, Player victim, double amount, Material weapon, boolean headshot) {
+        if (!roundState.isInPlay())
+            return;
+        PlayerData attackerData = arena.getPlayerData(attacker);
+        PlayerData victimData = arena.getPlayerData(victim);
+        if (attackerData == null || victimData == null || attackerData.getTeam() == victimData.getTeam())
+            return;
+        damageTracker.recordHit(attackerData.getSlot(), victimData.getSlot(), (float) amount, weapon, headshot,
+                arena.getClock().nanoTime());
+    }
+
+    /**
+     * Round MVP to everyone and each player's own numbers to them.
+     */
+    private void sendRoundSummary() {
+        PlayerData mvp = null;
+        for (PlayerData data : arena.getPlayers().values()) {
+            int slot = data.getSlot();
+            if (mvp == null
+                    || damageTracker.getKills(slot) > damageTracker.getKills(mvp.getSlot())
+                    || (damageTracker.getKills(slot) == damageTracker.getKills(mvp.getSlot())
+                            && damageTracker.getDamageDealt(slot) > damageTracker.getDamageDealt(mvp.getSlot()))) {
+                mvp = data;
+            }
+        }
+        if (mvp != null && mvp.getPlayer() != null && damageTracker.getDamageDealt(mvp.getSlot()) > 0) {
+            arena.broadcast(Messages.roundMvp(mvp.getPlayer().getName(), damageTracker.getKills(mvp.getSlot()),
+                    Math.round(damageTracker.getDamageDealt(mvp.getSlot()))));
+        }
+        for (PlayerData data : arena.getPlayers().values()) {
+            Player player = data.getPlayer();
+            if (player == null)
+                continue;
+            int slot = data.getSlot();
+            Messages.send(player, Messages.roundStats(damageTracker.getKills(slot), damageTracker.getAssists(slot),
+                    damageTracker.getHeadshots(slot), Math.round(damageTracker.getDamageDealt(slot))));
+        }
+    }
+
     /**
      * Handle player leave.
      */
@@ -320,7 +495,7 @@ public class GameManager {
 
         // Check if team now has zero players (they already left the players map)
         // We need to check after the player is actually removed
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        arena.getScheduler().run(() -> {
             checkTeamMembersAfterLeave(leavingTeam);
         });
     }
@@ -333,20 +508,20 @@ public class GameManager {
             return;
 
         // Count all players on each team (not just alive ones)
-        List<PlayerData> redPlayers = arena.getPlayersOnTeam(Team.RED);
-        List<PlayerData> bluePlayers = arena.getPlayersOnTeam(Team.BLUE);
+        int redPlayers = arena.countOnTeam(Team.RED);
+        int bluePlayers = arena.countOnTeam(Team.BLUE);
 
-        if (redPlayers.isEmpty() && bluePlayers.isEmpty()) {
+        if (redPlayers == 0 && bluePlayers == 0) {
             // Everyone left - force end game
             arena.forceEndGame();
-        } else if (redPlayers.isEmpty()) {
+        } else if (redPlayers == 0) {
             // Red team has no players - Blue wins the match
             arena.broadcast(Messages.PREFIX.append(
                     net.kyori.adventure.text.Component.text(
                             config.getRedTeamName() + "が退出しました。" + config.getBlueTeamName() + "の勝利！",
                             net.kyori.adventure.text.format.NamedTextColor.GOLD)));
             forceEndMatch(Team.BLUE);
-        } else if (bluePlayers.isEmpty()) {
+        } else if (bluePlayers == 0) {
             // Blue team has no players - Red wins the match
             arena.broadcast(Messages.PREFIX.append(
                     net.kyori.adventure.text.Component.text(
@@ -363,6 +538,8 @@ public class GameManager {
      * Force end the match immediately.
      */
     private void forceEndMatch(Team winner) {
+        if (!moveTo(RoundState.MATCH_OVER))
+            return;
         stopRoundTimer();
         if (bomb != null) {
             bomb.cleanup();
@@ -370,6 +547,7 @@ public class GameManager {
         }
         String winnerName = winner == Team.RED ? config.getRedTeamName() : config.getBlueTeamName();
         arena.broadcast(Messages.matchWin(winnerName));
+        arena.getEventBus().publish(new MatchEndEvent(arena, winner, redScore, blueScore, true));
         arena.endGame();
     }
 
@@ -377,16 +555,16 @@ public class GameManager {
      * Check if a team is eliminated.
      */
     private void checkTeamElimination() {
-        if (arena.getState() != ArenaState.PLAYING)
+        if (!roundState.isInPlay() || detonating)
             return;
 
-        List<PlayerData> aliveRed = arena.getAlivePlayersOnTeam(Team.RED);
-        List<PlayerData> aliveBlue = arena.getAlivePlayersOnTeam(Team.BLUE);
+        int aliveRed = arena.countAlive(Team.RED);
+        int aliveBlue = arena.countAlive(Team.BLUE);
 
-        if (aliveRed.isEmpty() && aliveBlue.isEmpty()) {
+        if (aliveRed == 0 && aliveBlue == 0) {
             // Somehow both teams dead - defenders win
             endRound(getDefendingTeam());
-        } else if (aliveRed.isEmpty()) {
+        } else if (aliveRed == 0) {
             // Red eliminated
             arena.broadcast(Messages.teamEliminated(config.getRedTeamName()));
 
@@ -396,7 +574,7 @@ public class GameManager {
             } else {
                 endRound(Team.BLUE);
             }
-        } else if (aliveBlue.isEmpty()) {
+        } else if (aliveBlue == 0) {
             // Blue eliminated
             arena.broadcast(Messages.teamEliminated(config.getBlueTeamName()));
 
@@ -411,8 +589,12 @@ public class GameManager {
 
     /**
      * Handle bomb planted.
+     *
+     * @return false if the round can no longer take a plant
      */
-    public void onBombPlanted(String siteName, Location location) {
+    public boolean onBombPlanted(Player planter, String siteName, Location location) {
+        if (!moveTo(RoundState.PLANTED))
+            return false;
         arena.broadcast(Messages.BOMB_PLANTED);
 
         // Stop round timer - bomb timer takes over
@@ -426,32 +608,76 @@ public class GameManager {
         bomb.plant(siteName, location, () -> {
             // Bomb exploded
             arena.broadcast(Messages.BOMB_EXPLODED);
+            explode(location);
             endRound(attackingTeam);
         });
+        arena.getEventBus().publish(new BombPlantedEvent(arena, planter, siteName, location));
+        return true;
+    }
+
+    /**
+     * Detonate at the planted location: damage now, the rest over the next ticks.
+     */
+    private void explode(Location location) {
+        explosion = new BombExplosion(arena, config.getExplosion(), location);
+        detonating = true;
+        damageTracker.forgetLastHits();
+        try {
+            explosion.detonate();
+        } finally {
+            detonating = false;
+        }
     }
 
     /**
      * Handle bomb defused.
      */
-    public void onBombDefused() {
+    public void onBombDefused(Player defuser) {
+        if (roundState != RoundState.PLANTED)
+            return;
         arena.broadcast(Messages.BOMB_DEFUSED);
         bomb.defuse();
+        arena.getEventBus().publish(new BombDefusedEvent(arena, defuser));
 
         endRound(getDefendingTeam());
     }
 
     /**
-     * Get spawn location for a player based on their team and current roles.
+     * Buy a shop item for the next round. Only allowed in the lobby wait
+     * before a round; the kit is written on the next tick.
+     *
+     * @return true if the item was bought
      */
-    public Location getSpawnForPlayer(PlayerData data) {
-        SndMap map = arena.getMap();
-        Role role = getRoleForTeam(data.getTeam());
+    public boolean buy(Player player, Loadouts.ShopItem item) {
+        PlayerData data = arena.getPlayerData(player);
+        if (data == null)
+            return false;
+        if (roundState != RoundState.PREPARING) {
+            Messages.send(player, Messages.BUY_PHASE_ONLY);
+            return false;
+        }
+        if (data.getMoney() < item.price()) {
+            Messages.send(player, Messages.NOT_ENOUGH_MONEY);
+            return false;
+        }
+        data.setMoney(data.getMoney() - item.price());
+        data.getPurchases().add(item);
+        loadouts.markDirty(player.getUniqueId());
+        Messages.send(player, Messages.purchased(item.name(), data.getMoney()));
+        return true;
+    }
 
-        if (role == Role.ATTACKERS) {
-            return map.getAttackerSpawn();
-        } else {
-            return map.getDefenderSpawn();
+    /**
+     * Move the round to a new state if the transition table allows it.
+     */
+    private boolean moveTo(RoundState next) {
+        if (!roundState.canMoveTo(next)) {
+            plugin.getSLF4JLogger().debug("Rejected round transition {} -> {} in {}",
+                    roundState, next, arena.getMap().getName());
+            return false;
         }
+        roundState = next;
+        return true;
     }
 
     /**
@@ -481,6 +707,10 @@ public class GameManager {
         return blueScore;
     }
 
+    public RoundState getRoundState() {
+        return roundState;
+    }
+
     public int getCurrentRound() {
         return currentRound;
     }
@@ -489,44 +719,28 @@ public class GameManager {
         return attackingTeam;
     }
 
-    public Bomb getBomb() {
-        return bomb;
-    }
-
-    public int getRoundTimeRemaining() {
-        return roundTimeRemaining;
+    /**
+     * Config snapshot pinned at match start, or null before it.
+     */
+    public Config getConfig() {
+        return config;
     }
 
     /**
-     * Execute event commands with map placeholder.
+     * Map rules pinned at match start, or null before it.
      */
-    private void executeEventCommands(List<String> commands, Player targetPlayer) {
-        if (commands == null || commands.isEmpty())
-            return;
-
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("<map>", arena.getMap().getName());
-        if (targetPlayer != null) {
-            placeholders.put("<player>", targetPlayer.getName());
-        }
+    public MatchProfile getProfile() {
+        return profile;
+    }
 
-        eventExecutor.executeCommands(commands, placeholders, targetPlayer);
+    public Bomb getBomb() {
+        return bomb;
     }
 
     /**
-     * Execute player-kill commands.
+     * Round time left in whole seconds, as last published.
      */
-    public void executeKillCommands(Player killer, Player victim) {
-        List<String> commands = config.getPlayerKillCommands();
-        if (commands == null || commands.isEmpty())
-            return;
-
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("<map>", arena.getMap().getName());
-        placeholders.put("<killer>", killer.getName());
-        placeholders.put("<victim>", victim.getName());
-        placeholders.put("<player>", killer.getName());
-
-        eventExecutor.executeCommands(commands, placeholders, killer);
+    public int getRoundTimeRemaining() {
+        return roundTimeRemaining;
     }
 }
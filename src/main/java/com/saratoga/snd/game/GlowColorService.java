@@ -0,0 +1,111 @@
+package com.saratoga.snd.game;
+
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Entity;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Glow colours for entities, shared by all arenas.
+ * An entity's glow colour comes from its team on the viewer's scoreboard, so
+ * one long-lived team per colour is kept on every per-player board installed
+ * here. Pooled entities are only shown to arena players, who all have such a
+ * board, so the main scoreboard is left alone. Assignments are tracked so
+ * boards installed later get them too and everything is removed on shutdown.
+ */
+public class GlowColorService {
+
+    private static final String TEAM_PREFIX = "snd_glow_";
+
+    // Scoreboard entry (entity UUID) -> colour
+    private final Map<String, NamedTextColor> assignments = new HashMap<>();
+
+    // Boards carrying the glow teams; per-player boards drop out once discarded
+    private final Set<Scoreboard> boards = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Add the glow teams and current assignments to a scoreboard.
+     */
+    public synchronized void install(Scoreboard board) {
+        if (!boards.add(board))
+            return;
+        for (Map.Entry<String, NamedTextColor> entry : assignments.entrySet()) {
+            team(board, entry.getValue()).addEntry(entry.getKey());
+        }
+    }
+
+    /**
+     * Give an entity a glow colour on every installed board.
+     */
+    public synchronized void assign(Entity entity, NamedTextColor color) {
+        String entry = entity.getUniqueId().toString();
+        if (color.equals(assignments.put(entry, color)))
+            return;
+        for (Scoreboard board : boards) {
+            // Joining a team leaves the previous one
+            team(board, color).addEntry(entry);
+        }
+    }
+
+    /**
+     * Drop an entity's glow colour, e.g. before it is removed.
+     */
+    public synchronized void release(Entity entity) {
+        String entry = entity.getUniqueId().toString();
+        NamedTextColor color = assignments.remove(entry);
+        if (color == null)
+            return;
+        for (Scoreboard board : boards) {
+            Team team = board.getTeam(teamName(color));
+            if (team != null) {
+                team.removeEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * Number of entities with a glow colour.
+     */
+    public synchronized int getAssignedCount() {
+        return assignments.size();
+    }
+
+    /**
+     * Remove all assignments and the glow teams from every board.
+     */
+    public synchronized void shutdown() {
+        for (Scoreboard board : boards) {
+            removeTeams(board);
+        }
+        assignments.clear();
+        boards.clear();
+    }
+
+    private static void removeTeams(Scoreboard board) {
+        for (Team team : board.getTeams()) {
+            if (team.getName().startsWith(TEAM_PREFIX)) {
+                team.unregister();
+            }
+        }
+    }
+
+    private static Team team(Scoreboard board, NamedTextColor color) {
+        String name = teamName(color);
+        Team team = board.getTeam(name);
+        if (team == null) {
+            team = board.registerNewTeam(name);
+            team.color(color);
+        }
+        return team;
+    }
+
+    private static String teamName(NamedTextColor color) {
+        return TEAM_PREFIX + NamedTextColor.NAMES.key(color);
+    }
+}
@@ -0,0 +1,78 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.arena.SndArena;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kill feed for an arena's players. Kills are queued as they happen and
+ * rendered once per tick, so several kills in one tick (a blast, a trade)
+ * reach each viewer as a single message.
+ */
+public class KillFeed {
+
+    private final SndArena arena;
+    private final List<DamageTracker.Kill> pending = new ArrayList<>();
+
+    public KillFeed(SndArena arena) {
+        this.arena = arena;
+    }
+
+    public void add(DamageTracker.Kill kill) {
+        pending.add(kill);
+    }
+
+    /**
+     * Render queued kills and send them to every player in the arena.
+     */
+    public void flush() {
+        if (pending.isEmpty())
+            return;
+        List<Component> lines = new ArrayList<>(pending.size());
+        for (DamageTracker.Kill kill : pending) {
+            lines.add(render(kill));
+        }
+        pending.clear();
+        arena.broadcast(Component.join(JoinConfiguration.newlines(), lines));
+    }
+
+    private Component render(DamageTracker.Kill kill) {
+        Component line = Component.empty();
+        if (kill.killer() >= 0) {
+            line = line.append(name(kill.killer()));
+            for (int assister : kill.assisters()) {
+                line = line.append(Component.text(" + ", NamedTextColor.GRAY)).append(name(assister));
+            }
+            line = line.append(Component.text(" [", NamedTextColor.DARK_GRAY));
+            line = line.append(kill.weapon() != null
+                    ? Component.translatable(kill.weapon(), NamedTextColor.WHITE)
+                    : Component.text("素手", NamedTextColor.WHITE));
+            line = line.append(Component.text("] ", NamedTextColor.DARK_GRAY));
+            if (kill.headshot()) {
+                line = line.append(Component.text("⌖ ", NamedTextColor.GOLD));
+            }
+        } else {
+            line = line.append(Component.text("☠ ", NamedTextColor.DARK_GRAY));
+        }
+        return line.append(name(kill.victim()));
+    }
+
+    private Component name(int slot) {
+        PlayerData data = arena.getPlayerBySlot(slot);
+        Player player = data != null ? data.getPlayer() : null;
+        if (player == null)
+            return Component.text("?", NamedTextColor.GRAY);
+        return Component.text(player.getName(), teamColor(data.getTeam()));
+    }
+
+    static NamedTextColor teamColor(Team team) {
+        if (team == null)
+            return NamedTextColor.GRAY;
+        return team == Team.RED ? NamedTextColor.RED : NamedTextColor.BLUE;
+    }
+}
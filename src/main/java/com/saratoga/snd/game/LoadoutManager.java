@@ -0,0 +1,81 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.arena.SndArena;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes kits into the inventories of an arena's players.
+ * Round starts write base kits through the round reset. Purchases only mark
+ * a player dirty; the arena tick then writes every dirty inventory in one
+ * pass, so a burst of purchases in the same tick costs one write per player.
+ */
+public class LoadoutManager {
+
+    private final SndArena arena;
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+
+    public LoadoutManager(SndArena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Queue a player's inventory for the next flush.
+     */
+    public void markDirty(UUID uuid) {
+        dirty.add(uuid);
+    }
+
+    /**
+     * Full inventory contents for a player, or null without a team.
+     */
+    public ItemStack[] contentsFor(PlayerData data) {
+        if (data.getTeam() == null)
+            return null;
+        GameManager game = arena.getGameManager();
+        return game.getConfig().getLoadouts().contentsFor(game.getRoleForTeam(data.getTeam()), data.getCarried(),
+                data.getPurchases());
+    }
+
+    /**
+     * Take a player's queued write, if any, for a caller that writes the
+     * inventory itself.
+     *
+     * @return contents to write, or null if nothing is queued
+     */
+    public ItemStack[] takeDirty(PlayerData data) {
+        if (!dirty.remove(data.getUuid()))
+            return null;
+        return contentsFor(data);
+    }
+
+    /**
+     * Write all queued inventories. Called from the arena tick.
+     */
+    public void flush() {
+        if (dirty.isEmpty())
+            return;
+        for (UUID uuid : dirty) {
+            PlayerData data = arena.getPlayers().get(uuid);
+            if (data == null)
+                continue;
+            Player player = data.getPlayer();
+            ItemStack[] contents = contentsFor(data);
+            if (player == null || !player.isOnline() || contents == null)
+                continue;
+            player.getInventory().setContents(contents);
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Drop queued writes, e.g. when the match ends.
+     */
+    public void clear() {
+        dirty.clear();
+    }
+}
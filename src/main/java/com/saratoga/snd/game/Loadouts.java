@@ -0,0 +1,153 @@
+package com.saratoga.snd.game;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base kits and buyable items, compiled once per config load.
+ * Kits are kept as ready-made player inventory arrays so a round start or a
+ * purchase costs one setContents call per player. The arrays are never
+ * modified after compilation; setContents copies the stacks.
+ */
+public final class Loadouts {
+
+    // Player inventory contents: 0-35 storage, 36-39 armor (boots..helmet), 40 off hand
+    static final int CONTENTS_SIZE = 41;
+    private static final int STORAGE_SIZE = 36;
+
+    private final ItemStack[] attackerBase;
+    private final ItemStack[] defenderBase;
+    private final Map<String, ShopItem> shop;
+
+    private Loadouts(ItemStack[] attackerBase, ItemStack[] defenderBase, Map<String, ShopItem> shop) {
+        this.attackerBase = attackerBase;
+        this.defenderBase = defenderBase;
+        this.shop = shop;
+    }
+
+    /**
+     * Compile the {@code loadouts:} section, which may be null.
+     * Unknown materials are skipped.
+     */
+    public static Loadouts load(ConfigurationSection section) {
+        if (section == null)
+            return new Loadouts(new ItemStack[CONTENTS_SIZE], new ItemStack[CONTENTS_SIZE], Map.of());
+
+        ItemStack[] attackers = compose(new ItemStack[CONTENTS_SIZE],
+                parseItems(section.getStringList("base.attackers")));
+        ItemStack[] defenders = compose(new ItemStack[CONTENTS_SIZE],
+                parseItems(section.getStringList("base.defenders")));
+
+        Map<String, ShopItem> shop = new LinkedHashMap<>();
+        ConfigurationSection shopSection = section.getConfigurationSection("shop");
+        if (shopSection != null) {
+            for (String id : shopSection.getKeys(false)) {
+                ConfigurationSection entry = shopSection.getConfigurationSection(id);
+                if (entry == null)
+                    continue;
+                List<ItemStack> items = parseItems(entry.getStringList("items"));
+                if (items.isEmpty())
+                    continue;
+                shop.put(id, new ShopItem(id, entry.getString("name", id), Math.max(0, entry.getInt("price")),
+                        items.get(0).getType(), List.copyOf(items)));
+            }
+        }
+        return new Loadouts(attackers, defenders, Collections.unmodifiableMap(shop));
+    }
+
+    /**
+     * Parse "MATERIAL" or "MATERIAL:amount" entries.
+     */
+    private static List<ItemStack> parseItems(List<String> entries) {
+        List<ItemStack> items = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            String[] parts = entry.split(":");
+            Material material = Material.matchMaterial(parts[0].trim());
+            if (material == null || !material.isItem())
+                continue;
+            int amount = 1;
+            if (parts.length > 1) {
+                try {
+                    amount = Math.max(1, Integer.parseInt(parts[1].trim()));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            items.add(new ItemStack(material, Math.min(amount, material.getMaxStackSize())));
+        }
+        return items;
+    }
+
+    /**
+     * Place items into a contents array: armor into its slot, the rest into
+     * the first free storage slot. Returns the same array.
+     */
+    private static ItemStack[] compose(ItemStack[] contents, List<ItemStack> items) {
+        for (ItemStack item : items) {
+            int slot = armorSlot(item.getType().getEquipmentSlot());
+            if (slot < 0 || contents[slot] != null) {
+                slot = firstEmpty(contents);
+            }
+            if (slot >= 0) {
+                contents[slot] = item;
+            }
+        }
+        return contents;
+    }
+
+    private static int armorSlot(EquipmentSlot slot) {
+        return switch (slot) {
+            case FEET -> 36;
+            case LEGS -> 37;
+            case CHEST -> 38;
+            case HEAD -> 39;
+            default -> -1;
+        };
+    }
+
+    private static int firstEmpty(ItemStack[] contents) {
+        for (int i = 0; i < STORAGE_SIZE; i++) {
+            if (contents[i] == null)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Inventory contents for a role plus this round's purchases, starting
+     * from what the player carried over instead of the base kit if anything.
+     * Without either the shared compiled array is returned as is.
+     *
+     * @param carried contents kept from the last round, or null
+     */
+    public ItemStack[] contentsFor(Role role, ItemStack[] carried, List<ShopItem> purchases) {
+        ItemStack[] base = carried != null ? carried : role == Role.ATTACKERS ? attackerBase : defenderBase;
+        if (purchases.isEmpty())
+            return base;
+        ItemStack[] contents = base.clone();
+        for (ShopItem purchase : purchases) {
+            compose(contents, purchase.items());
+        }
+        return contents;
+    }
+
+    public Map<String, ShopItem> getShop() {
+        return shop;
+    }
+
+    /**
+     * An item in the buy menu.
+     *
+     * @param icon  material shown in the menu
+     * @param items stacks added to the buyer's inventory
+     */
+    public record ShopItem(String id, String name, int price, Material icon, List<ItemStack> items) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.Config;
+import com.saratoga.snd.arena.MapRules;
+import org.bukkit.Material;
+
+/**
+ * Rules for one map, compiled from the global config and the map's overrides.
+ * Pinned by GameManager for the whole match.
+ *
+ * @param config the global config snapshot this profile was compiled from
+ */
+public record MatchProfile(
+        Config config,
+        int maxRounds,
+        int roundsToWin,
+        int swapSidesAfter,
+        int roundTimeLimit,
+        int plantTime,
+        int defuseTime,
+        int explosionTime,
+        int lobbyWaitTime,
+        Material bombItem,
+        ActionTolerance actionTolerance) {
+
+    /**
+     * Merge map overrides over the global config.
+     */
+    public static MatchProfile compile(Config config, MapRules rules) {
+        int maxRounds = positive(rules.maxRounds(), config.getMaxRounds());
+        return new MatchProfile(
+                config,
+                maxRounds,
+                Math.min(positive(rules.roundsToWin(), config.getRoundsToWin()), maxRounds),
+                positive(rules.swapSidesAfter(), config.getSwapSidesAfter()),
+                positive(rules.roundTimeLimit(), config.getRoundTimeLimit()),
+                positive(rules.plantTime(), config.getPlantTime()),
+                positive(rules.defuseTime(), config.getDefuseTime()),
+                positive(rules.explosionTime(), config.getExplosionTime()),
+                positive(rules.lobbyWaitTime(), config.getLobbyWaitTime()),
+                config.getBombItem(),
+                config.getActionTolerance());
+    }
+
+    private static int positive(Integer override, int fallback) {
+        return override != null && override > 0 ? override : fallback;
+    }
+}
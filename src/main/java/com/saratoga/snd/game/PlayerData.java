@@ -1,57 +1,87 @@
 package com.saratoga.snd.game;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Per-player data during a game.
+ * Team, alive, bomb and the Player itself are stored in the arena's
+ * {@link PlayerSlots} arrays under this player's slot; once the player has
+ * left they read as unset.
  */
 public class PlayerData {
 
+    private final PlayerSlots slots;
     private final UUID uuid;
-    private Team team;
-    private boolean alive = true;
-    private boolean hasBomb = false;
+    // Dense index within the arena, reused after the player leaves
+    private final int slot;
 
     // Spectating
     private UUID spectatingTarget;
 
-    public PlayerData(Player player) {
+    // Economy
+    private int money;
+    private final List<Loadouts.ShopItem> purchases = new ArrayList<>();
+    // What the player still held when they survived the last round, or null
+    private ItemStack[] carried;
+
+    PlayerData(PlayerSlots slots, Player player, int slot) {
+        this.slots = slots;
         this.uuid = player.getUniqueId();
+        this.slot = slot;
+    }
+
+    private boolean inSlot() {
+        return slots.holds(slot, this);
     }
 
     public UUID getUuid() {
         return uuid;
     }
 
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * The player, cached at join; null once they left.
+     */
     public Player getPlayer() {
-        return Bukkit.getPlayer(uuid);
+        return inSlot() ? slots.getPlayer(slot) : null;
     }
 
     public Team getTeam() {
-        return team;
+        return inSlot() ? slots.getTeam(slot) : null;
     }
 
     public void setTeam(Team team) {
-        this.team = team;
+        if (inSlot()) {
+            slots.setTeam(slot, team);
+        }
     }
 
     public boolean isAlive() {
-        return alive;
+        return inSlot() && slots.isAlive(slot);
     }
 
     public void setAlive(boolean alive) {
-        this.alive = alive;
+        if (inSlot()) {
+            slots.setAlive(slot, alive);
+        }
     }
 
     public boolean hasBomb() {
-        return hasBomb;
+        return inSlot() && slots.hasBomb(slot);
     }
 
     public void setHasBomb(boolean hasBomb) {
-        this.hasBomb = hasBomb;
+        if (inSlot()) {
+            slots.setBomb(slot, hasBomb);
+        }
     }
 
     public UUID getSpectatingTarget() {
@@ -62,12 +92,39 @@ public class PlayerData {
         this.spectatingTarget = spectatingTarget;
     }
 
+    public int getMoney() {
+        return money;
+    }
+
+    public void setMoney(int money) {
+        this.money = money;
+    }
+
+    /**
+     * Items bought this round.
+     */
+    public List<Loadouts.ShopItem> getPurchases() {
+        return purchases;
+    }
+
+    /**
+     * Inventory carried over from the last round, or null to start from the base kit.
+     */
+    public ItemStack[] getCarried() {
+        return carried;
+    }
+
+    public void setCarried(ItemStack[] carried) {
+        this.carried = carried;
+    }
+
     /**
      * Reset player data for a new round.
      */
     public void resetForRound() {
-        this.alive = true;
-        this.hasBomb = false;
+        setAlive(true);
+        setHasBomb(false);
         this.spectatingTarget = null;
+        this.purchases.clear();
     }
 }
@@ -0,0 +1,169 @@
+package com.saratoga.snd.game;
+
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * Per-arena player table indexed by dense slot. Team, alive and bomb flags
+ * and the online Player live in parallel arrays, so per-tick code walks
+ * arrays instead of hashing UUIDs or asking the server for players.
+ * The table holds the map's max players; slots are handed out at join,
+ * lowest free first, and freed at leave.
+ * UUID maps are only needed where a Bukkit event hands us a player.
+ */
+public class PlayerSlots {
+
+    private final PlayerData[] data;
+    private final Player[] players;
+    private final Team[] teams;
+    private final boolean[] alive;
+    private final boolean[] bomb;
+    private int size;
+
+    public PlayerSlots(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.data = new PlayerData[capacity];
+        this.players = new Player[capacity];
+        this.teams = new Team[capacity];
+        this.alive = new boolean[capacity];
+        this.bomb = new boolean[capacity];
+    }
+
+    /**
+     * Take the lowest free slot for a player.
+     *
+     * @return the player's data, or null if every slot is taken
+     */
+    public PlayerData add(Player player) {
+        int slot = 0;
+        while (slot < data.length && data[slot] != null) {
+            slot++;
+        }
+        if (slot == data.length)
+            return null;
+        PlayerData entry = new PlayerData(this, player, slot);
+        data[slot] = entry;
+        players[slot] = player;
+        teams[slot] = null;
+        alive[slot] = true;
+        bomb[slot] = false;
+        size++;
+        return entry;
+    }
+
+    /**
+     * Free a player's slot.
+     */
+    public void remove(PlayerData entry) {
+        int slot = entry.getSlot();
+        if (data[slot] != entry)
+            return;
+        data[slot] = null;
+        players[slot] = null;
+        teams[slot] = null;
+        alive[slot] = false;
+        bomb[slot] = false;
+        size--;
+    }
+
+    public void clear() {
+        Arrays.fill(data, null);
+        Arrays.fill(players, null);
+        Arrays.fill(teams, null);
+        Arrays.fill(alive, false);
+        Arrays.fill(bomb, false);
+        size = 0;
+    }
+
+    /**
+     * Size of the table; every slot in use is below this.
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Number of players.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if every slot is taken.
+     */
+    public boolean isFull() {
+        return size == data.length;
+    }
+
+    /**
+     * Player in a slot, or null if free.
+     */
+    public PlayerData get(int slot) {
+        return slot >= 0 && slot < data.length ? data[slot] : null;
+    }
+
+    /**
+     * Online player in a slot, or null if free.
+     */
+    public Player getPlayer(int slot) {
+        return slot >= 0 && slot < players.length ? players[slot] : null;
+    }
+
+    // Per-slot flags, read and written through PlayerData
+
+    boolean holds(int slot, PlayerData entry) {
+        return data[slot] == entry;
+    }
+
+    Team getTeam(int slot) {
+        return teams[slot];
+    }
+
+    void setTeam(int slot, Team team) {
+        teams[slot] = team;
+    }
+
+    boolean isAlive(int slot) {
+        return alive[slot];
+    }
+
+    void setAlive(int slot, boolean value) {
+        alive[slot] = value;
+    }
+
+    boolean hasBomb(int slot) {
+        return bomb[slot];
+    }
+
+    void setBomb(int slot, boolean value) {
+        bomb[slot] = value;
+    }
+
+    /**
+     * Players on a team.
+     */
+    public int count(Team team) {
+        int count = 0;
+        for (int i = 0; i < teams.length; i++) {
+            if (data[i] != null && teams[i] == team) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Alive players on a team.
+     */
+    public int countAlive(Team team) {
+        int count = 0;
+        for (int i = 0; i < teams.length; i++) {
+            if (data[i] != null && teams[i] == team && alive[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,60 @@
+package com.saratoga.snd.game;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Player state for a round transition, planned for the whole arena first and
+ * then applied in one pass: one gamemode change, one inventory write, one heal
+ * and one async teleport per player at most.
+ * Async teleports load the destination chunk off the main thread instead of
+ * stalling the tick when a spawn is not loaded yet.
+ */
+final class RoundReset {
+
+    /**
+     * Final state of one player; null fields are left unchanged.
+     */
+    private record Entry(Player player, GameMode gameMode, ItemStack[] contents, boolean heal,
+            Location destination) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Plan a player's state.
+     */
+    void add(Player player, GameMode gameMode, ItemStack[] contents, boolean heal, Location destination) {
+        entries.add(new Entry(player, gameMode, contents, heal, destination));
+    }
+
+    /**
+     * Apply every planned state.
+     */
+    void apply() {
+        for (Entry entry : entries) {
+            Player player = entry.player();
+            if (!player.isOnline())
+                continue;
+            if (entry.gameMode() != null && player.getGameMode() != entry.gameMode()) {
+                player.setGameMode(entry.gameMode());
+            }
+            if (entry.contents() != null) {
+                player.getInventory().setContents(entry.contents());
+            }
+            if (entry.heal()) {
+                player.setHealth(player.getMaxHealth());
+                player.setFireTicks(0);
+            }
+            if (entry.destination() != null) {
+                player.teleportAsync(entry.destination());
+            }
+        }
+        entries.clear();
+    }
+}
@@ -0,0 +1,43 @@
+package com.saratoga.snd.game;
+
+/**
+ * Phases of a round within a match.
+ * Legal transitions are a fixed table; GameManager refuses anything else,
+ * so e.g. an explosion racing a team elimination can only end the round once.
+ */
+public enum RoundState {
+    IDLE, // Match not started
+    PREPARING, // Players in the lobby before the round
+    LIVE, // Round running, bomb not planted
+    PLANTED, // Bomb ticking
+    ENDED, // Winner decided, next round or match end pending
+    MATCH_OVER; // Terminal
+
+    private static final RoundState[] VALUES = values();
+    private static final boolean[][] TRANSITIONS = new boolean[VALUES.length][VALUES.length];
+
+    static {
+        allow(IDLE, PREPARING, MATCH_OVER);
+        allow(PREPARING, LIVE, MATCH_OVER);
+        allow(LIVE, PLANTED, ENDED, MATCH_OVER);
+        allow(PLANTED, ENDED, MATCH_OVER);
+        allow(ENDED, PREPARING, MATCH_OVER);
+    }
+
+    private static void allow(RoundState from, RoundState... to) {
+        for (RoundState next : to) {
+            TRANSITIONS[from.ordinal()][next.ordinal()] = true;
+        }
+    }
+
+    public boolean canMoveTo(RoundState next) {
+        return TRANSITIONS[ordinal()][next.ordinal()];
+    }
+
+    /**
+     * Round is being played (timers and eliminations count).
+     */
+    public boolean isInPlay() {
+        return this == LIVE || this == PLANTED;
+    }
+}
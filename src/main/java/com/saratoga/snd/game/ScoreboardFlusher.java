@@ -0,0 +1,67 @@
+package com.saratoga.snd.game;
+
+import com.saratoga.snd.SearchAndDestroy;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces scoreboard flushes for all arenas into one task on the next tick.
+ * The task is only scheduled while some arena has a dirty board.
+ */
+public class ScoreboardFlusher {
+
+    private final SearchAndDestroy plugin;
+    private final Queue<ScoreboardManager> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean stopped;
+    private volatile BukkitTask task;
+
+    public ScoreboardFlusher(SearchAndDestroy plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Stop flushing and drop anything queued.
+     */
+    public void shutdown() {
+        stopped = true;
+        BukkitTask current = task;
+        if (current != null) {
+            current.cancel();
+            task = null;
+        }
+        pending.clear();
+    }
+
+    /**
+     * Queue a scoreboard for the next tick.
+     */
+    public void requestFlush(ScoreboardManager board) {
+        if (stopped)
+            return;
+        pending.add(board);
+        if (scheduled.compareAndSet(false, true)) {
+            task = plugin.getServer().getScheduler().runTask(plugin, this::flushAll);
+        }
+    }
+
+    /**
+     * Drop a queued scoreboard (arena stopped).
+     */
+    public void cancelFlush(ScoreboardManager board) {
+        pending.remove(board);
+    }
+
+    private void flushAll() {
+        task = null;
+        // Re-arm first so a flush requested while draining gets its own run
+        scheduled.set(false);
+        ScoreboardManager board;
+        while ((board = pending.poll()) != null) {
+            board.flush();
+        }
+    }
+}
@@ -4,32 +4,93 @@ import com.saratoga.snd.Config;
 import com.saratoga.snd.SearchAndDestroy;
 import com.saratoga.snd.arena.ArenaState;
 import com.saratoga.snd.arena.SndArena;
-import com.saratoga.snd.arena.SndMap;
+import com.saratoga.snd.event.AliveCountChangeEvent;
+import com.saratoga.snd.event.BombStateChangeEvent;
+import com.saratoga.snd.event.EventBus;
+import com.saratoga.snd.event.RoundStartEvent;
+import com.saratoga.snd.event.ScoreChangeEvent;
+import com.saratoga.snd.event.TimerTickEvent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.*;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Manages scoreboards for arena players.
+ * Lines are re-rendered only when a game event marks them dirty; all changes
+ * within a tick are coalesced into one flush.
  */
 public class ScoreboardManager {
 
+    /**
+     * Sidebar lines, top to bottom, with their fixed score.
+     */
+    private enum Line {
+        ROUND(15),
+        GAP_1(14),
+        RED_SCORE(13),
+        BLUE_SCORE(12),
+        GAP_2(11),
+        ROLE(10),
+        GAP_3(9),
+        BOMB_TIMER(8),
+        BOMB(7),
+        GAP_4(6),
+        ALIVE(5),
+        TIME(4);
+
+        private static final Line[] VALUES = values();
+        private static final int ALL = (1 << VALUES.length) - 1;
+
+        private final int score;
+        private final int bit;
+
+        Line(int score) {
+            this.score = score;
+            this.bit = 1 << ordinal();
+        }
+    }
+
     private final SearchAndDestroy plugin;
     private final SndArena arena;
-    private final Map<UUID, Scoreboard> playerScoreboards = new HashMap<>();
-    private BukkitTask updateTask;
+    // Per player slot: viewer, their scoreboard and its last rendered text per line (null = line hidden)
+    private final Player[] viewers;
+    private final Scoreboard[] boards;
+    private final String[][] renderedLines;
+    private int boardCount;
+
+    // Dirty lines for every viewer, plus viewer slots needing a full redraw
+    private int dirtyLines;
+    private final BitSet dirtyViewers = new BitSet();
+    private boolean flushScheduled;
+
+    private final List<EventBus.Subscription> subscriptions = new ArrayList<>();
 
     public ScoreboardManager(SearchAndDestroy plugin, SndArena arena) {
         this.plugin = plugin;
         this.arena = arena;
+        this.viewers = new Player[arena.getSlotCount()];
+        this.boards = new Scoreboard[arena.getSlotCount()];
+        this.renderedLines = new String[arena.getSlotCount()][];
+    }
+
+    /**
+     * Store a viewer's board under their slot.
+     */
+    private void putBoard(int slot, Player viewer, Scoreboard scoreboard) {
+        if (boards[slot] == null) {
+            boardCount++;
+        }
+        viewers[slot] = viewer;
+        boards[slot] = scoreboard;
+        renderedLines[slot] = new String[Line.VALUES.length];
     }
 
     /**
@@ -48,8 +109,18 @@ public class ScoreboardManager {
         // everyone)
         syncAllPlayersToAllScoreboards();
 
-        // Update every second
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAll, 20L, 20L);
+        // Re-render only on state changes
+        EventBus bus = arena.getEventBus();
+        subscriptions.add(bus.subscribe(RoundStartEvent.class, e -> markDirty(Line.ALL)));
+        subscriptions.add(bus.subscribe(ScoreChangeEvent.class,
+                e -> markDirty(Line.RED_SCORE.bit | Line.BLUE_SCORE.bit)));
+        subscriptions.add(bus.subscribe(AliveCountChangeEvent.class, e -> markDirty(Line.ALIVE.bit)));
+        subscriptions.add(bus.subscribe(BombStateChangeEvent.class,
+                e -> markDirty(Line.BOMB.bit | Line.BOMB_TIMER.bit)));
+        subscriptions.add(bus.subscribe(TimerTickEvent.class, e -> markDirty(
+                e.timer() == TimerTickEvent.Timer.ROUND ? Line.TIME.bit : Line.BOMB_TIMER.bit)));
+
+        markDirty(Line.ALL);
     }
 
     /**
@@ -67,8 +138,11 @@ public class ScoreboardManager {
 
         // Set up teams with visibility based on THIS player's team
         setupTeamsForPlayer(scoreboard, playerTeam);
+        plugin.getGlowColors().install(scoreboard);
 
-        playerScoreboards.put(player.getUniqueId(), scoreboard);
+        if (playerData != null) {
+            putBoard(playerData.getSlot(), player, scoreboard);
+        }
         player.setScoreboard(scoreboard);
     }
 
@@ -84,8 +158,10 @@ public class ScoreboardManager {
                 continue;
 
             // Add this player to ALL scoreboards (including their own)
-            for (Scoreboard sb : playerScoreboards.values()) {
-                assignToTeam(player, data.getTeam(), sb);
+            for (Scoreboard sb : boards) {
+                if (sb != null) {
+                    assignToTeam(player, data.getTeam(), sb);
+                }
             }
         }
     }
@@ -94,19 +170,25 @@ public class ScoreboardManager {
      * Stop updating and clean up.
      */
     public void stop() {
-        if (updateTask != null) {
-            updateTask.cancel();
-            updateTask = null;
+        plugin.getScoreboardFlusher().cancelFlush(this);
+        for (EventBus.Subscription subscription : subscriptions) {
+            subscription.unsubscribe();
         }
-
-        // Reset all scoreboards
-        for (UUID uuid : playerScoreboards.keySet()) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
-                player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        subscriptions.clear();
+        dirtyLines = 0;
+        dirtyViewers.clear();
+        flushScheduled = false;
+
+        // Reset all scoreboards (players may already have left the arena)
+        for (Player viewer : viewers) {
+            if (viewer != null && viewer.isOnline()) {
+                viewer.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
             }
         }
-        playerScoreboards.clear();
+        Arrays.fill(viewers, null);
+        Arrays.fill(boards, null);
+        Arrays.fill(renderedLines, null);
+        boardCount = 0;
     }
 
     /**
@@ -120,17 +202,23 @@ public class ScoreboardManager {
 
         // Set up teams with visibility based on THIS player's team
         setupTeamsForPlayer(scoreboard, data.getTeam());
+        plugin.getGlowColors().install(scoreboard);
 
-        playerScoreboards.put(player.getUniqueId(), scoreboard);
+        putBoard(data.getSlot(), player, scoreboard);
         player.setScoreboard(scoreboard);
 
+        // New viewer needs every line drawn once
+        dirtyViewers.set(data.getSlot());
+        scheduleFlush();
+
         // Assign player to team on this scoreboard
         assignToTeam(player, data.getTeam(), scoreboard);
 
         // Assign all other players too
         for (PlayerData otherData : arena.getPlayers().values()) {
-            if (!otherData.getPlayer().getUniqueId().equals(player.getUniqueId())) {
-                assignToTeam(otherData.getPlayer(), otherData.getTeam(), scoreboard);
+            Player other = otherData.getPlayer();
+            if (other != null && other != player) {
+                assignToTeam(other, otherData.getTeam(), scoreboard);
             }
         }
     }
@@ -175,99 +263,145 @@ public class ScoreboardManager {
     }
 
     /**
-     * Update all scoreboards.
+     * Mark lines dirty for all viewers.
+     */
+    private void markDirty(int lines) {
+        dirtyLines |= lines;
+        scheduleFlush();
+    }
+
+    /**
+     * Queue a single flush for the next tick, coalescing all changes until then.
      */
-    private void updateAll() {
+    private void scheduleFlush() {
+        if (flushScheduled)
+            return;
+        flushScheduled = true;
+        plugin.getScoreboardFlusher().requestFlush(this);
+    }
+
+    /**
+     * Render the dirty lines once per role and write the differences to each
+     * viewer's scoreboard.
+     */
+    void flush() {
+        flushScheduled = false;
+        int lines = dirtyLines;
+        dirtyLines = 0;
+        BitSet fullRedraw = (BitSet) dirtyViewers.clone();
+        dirtyViewers.clear();
+
         GameManager game = arena.getGameManager();
-        if (game == null)
+        if (game == null || boardCount == 0 || (lines == 0 && fullRedraw.isEmpty()))
             return;
 
-        for (Map.Entry<UUID, Scoreboard> entry : playerScoreboards.entrySet()) {
-            Player player = Bukkit.getPlayer(entry.getKey());
-            if (player == null)
+        int mask = fullRedraw.isEmpty() ? lines : Line.ALL;
+        String[] attackerLines = renderLines(mask, Role.ATTACKERS, game);
+        String[] defenderLines = renderLines(mask, Role.DEFENDERS, game);
+
+        for (int slot = 0; slot < boards.length; slot++) {
+            if (boards[slot] == null)
+                continue;
+            int viewerMask = fullRedraw.get(slot) ? Line.ALL : lines;
+            if (viewerMask == 0)
                 continue;
 
-            PlayerData data = arena.getPlayerData(player);
+            PlayerData data = arena.getPlayerBySlot(slot);
             if (data == null)
                 continue;
 
-            updateScoreboard(player, data, entry.getValue(), game);
+            Role role = game.getRoleForTeam(data.getTeam());
+            applyLines(boards[slot], renderedLines[slot], viewerMask,
+                    role == Role.ATTACKERS ? attackerLines : defenderLines);
         }
     }
 
     /**
-     * Update a single scoreboard.
+     * Render the requested lines as seen by the given role.
      */
-    private void updateScoreboard(Player player, PlayerData data, Scoreboard scoreboard, GameManager game) {
-        Objective objective = scoreboard.getObjective("snd");
-        if (objective == null)
-            return;
-
-        // Clear old scores
-        for (String entry : scoreboard.getEntries()) {
-            scoreboard.resetScores(entry);
+    private String[] renderLines(int mask, Role role, GameManager game) {
+        String[] lines = new String[Line.VALUES.length];
+        for (Line line : Line.VALUES) {
+            if ((mask & line.bit) != 0) {
+                lines[line.ordinal()] = renderLine(line, role, game);
+            }
         }
+        return lines;
+    }
 
-        Config config = plugin.getMainConfig();
-        int line = 15;
+    /**
+     * Render a single line. Returns null if the line is hidden.
+     */
+    private String renderLine(Line line, Role role, GameManager game) {
+        Config config = arena.getConfig();
+        Bomb bomb = game.getBomb();
+        return switch (line) {
+            case ROUND -> "§e§lラウンド " + game.getCurrentRound() + "/" + arena.getProfile().maxRounds();
+            case GAP_1 -> "§7";
+            case RED_SCORE -> "§c" + config.getRedTeamName() + ": §f" + game.getRedScore();
+            case BLUE_SCORE -> "§9" + config.getBlueTeamName() + ": §f" + game.getBlueScore();
+            case GAP_2 -> "§7 ";
+            case ROLE -> "§f役割: " + (role == Role.ATTACKERS ? "§c攻撃側" : "§a防衛側");
+            case GAP_3 -> "§7  ";
+            case BOMB_TIMER -> bomb != null && bomb.isPlanted()
+                    ? "§c爆発まで: §f" + bomb.getExplosionTimer() + "秒"
+                    : null;
+            case BOMB -> bomb != null ? "§f爆弾: " + renderBombStatus(bomb, role) : null;
+            case GAP_4 -> "§7   ";
+            case ALIVE -> "§c生存: " + arena.countAlive(Team.RED) + " §f| §9" + arena.countAlive(Team.BLUE);
+            case TIME -> {
+                if (arena.getState() != ArenaState.PLAYING)
+                    yield null;
+                int time = game.getRoundTimeRemaining();
+                yield "§f残り時間: §e" + String.format("%d:%02d", time / 60, time % 60);
+            }
+        };
+    }
+
+    private String renderBombStatus(Bomb bomb, Role role) {
+        return switch (bomb.getState()) {
+            case DROPPED -> "§6落ちている";
+            // Only show carrier name to attackers
+            case CARRIED -> role == Role.ATTACKERS ? "§e所持: " + carrierName(bomb) : "§e攻撃側が所持";
+            case PLANTING -> "§c設置中...";
+            case PLANTED, DEFUSING -> "§c§l設置済み [" + bomb.getPlantedSite() + "]";
+            case DEFUSED -> "§a解除済み";
+            case EXPLODED -> "§4爆発";
+            default -> "§7待機中";
+        };
+    }
 
-        // Round
-        objective.getScore("§e§lラウンド " + game.getCurrentRound() + "/" + config.getMaxRounds()).setScore(line--);
-        objective.getScore("§7").setScore(line--);
+    private String carrierName(Bomb bomb) {
+        PlayerData carrierData = arena.getPlayers().get(bomb.getCarrier());
+        Player carrier = carrierData != null ? carrierData.getPlayer() : null;
+        return carrier != null ? carrier.getName() : "???";
+    }
+
+    /**
+     * Write changed lines to a scoreboard, skipping lines whose text is unchanged.
+     */
+    private void applyLines(Scoreboard scoreboard, String[] current, int mask, String[] rendered) {
+        Objective objective = scoreboard.getObjective("snd");
+        if (objective == null || current == null)
+            return;
 
-        // Score
-        objective.getScore("§c" + config.getRedTeamName() + ": §f" + game.getRedScore()).setScore(line--);
-        objective.getScore("§9" + config.getBlueTeamName() + ": §f" + game.getBlueScore()).setScore(line--);
-        objective.getScore("§7 ").setScore(line--);
+        for (Line line : Line.VALUES) {
+            if ((mask & line.bit) == 0)
+                continue;
 
-        // Your role
-        Role role = game.getRoleForTeam(data.getTeam());
-        String roleStr = role == Role.ATTACKERS ? "§c攻撃側" : "§a防衛側";
-        objective.getScore("§f役割: " + roleStr).setScore(line--);
-        objective.getScore("§7  ").setScore(line--);
+            int i = line.ordinal();
+            String next = rendered[i];
+            String previous = current[i];
+            if (next == null ? previous == null : next.equals(previous))
+                continue;
 
-        // Bomb status
-        Bomb bomb = game.getBomb();
-        if (bomb != null) {
-            Bomb.State bombState = bomb.getState();
-            String bombStatus;
-
-            switch (bombState) {
-                case DROPPED -> bombStatus = "§6落ちている";
-                case CARRIED -> {
-                    // Only show carrier name to attackers
-                    if (role == Role.ATTACKERS) {
-                        Player carrier = Bukkit.getPlayer(bomb.getCarrier());
-                        bombStatus = "§e所持: " + (carrier != null ? carrier.getName() : "???");
-                    } else {
-                        bombStatus = "§e攻撃側が所持";
-                    }
-                }
-                case PLANTING -> bombStatus = "§c設置中...";
-                case PLANTED, DEFUSING -> {
-                    bombStatus = "§c§l設置済み [" + bomb.getPlantedSite() + "]";
-                    // Show timer
-                    int timer = bomb.getExplosionTimer();
-                    objective.getScore("§c爆発まで: §f" + timer + "秒").setScore(line--);
-                }
-                case DEFUSED -> bombStatus = "§a解除済み";
-                case EXPLODED -> bombStatus = "§4爆発";
-                default -> bombStatus = "§7待機中";
+            if (previous != null) {
+                scoreboard.resetScores(previous);
             }
-            objective.getScore("§f爆弾: " + bombStatus).setScore(line--);
-        }
-        objective.getScore("§7   ").setScore(line--);
-
-        // Alive players
-        int redAlive = arena.getAlivePlayersOnTeam(Team.RED).size();
-        int blueAlive = arena.getAlivePlayersOnTeam(Team.BLUE).size();
-        objective.getScore("§c生存: " + redAlive + " §f| §9" + blueAlive).setScore(line--);
-
-        // Round time
-        if (arena.getState() == ArenaState.PLAYING) {
-            int time = game.getRoundTimeRemaining();
-            String timeStr = String.format("%d:%02d", time / 60, time % 60);
-            objective.getScore("§f残り時間: §e" + timeStr).setScore(line--);
+            if (next != null) {
+                objective.getScore(next).setScore(line.score);
+            }
+            current[i] = next;
         }
     }
 
@@ -279,8 +413,10 @@ public class ScoreboardManager {
     public void addPlayer(Player player, PlayerData data) {
         // First, add this player to all EXISTING scoreboards (before creating their
         // own)
-        for (Map.Entry<UUID, Scoreboard> entry : playerScoreboards.entrySet()) {
-            assignToTeam(player, data.getTeam(), entry.getValue());
+        for (Scoreboard sb : boards) {
+            if (sb != null) {
+                assignToTeam(player, data.getTeam(), sb);
+            }
         }
 
         // Now create scoreboard for this player
@@ -292,8 +428,9 @@ public class ScoreboardManager {
      */
     public void removePlayer(Player player) {
         // Remove from all other players' scoreboards
-        for (Map.Entry<UUID, Scoreboard> entry : playerScoreboards.entrySet()) {
-            Scoreboard sb = entry.getValue();
+        for (Scoreboard sb : boards) {
+            if (sb == null)
+                continue;
 
             // Remove from both teams (we don't know which they were on)
             org.bukkit.scoreboard.Team redTeam = sb.getTeam("red");
@@ -306,9 +443,14 @@ public class ScoreboardManager {
         }
 
         // Remove their own scoreboard
-        Scoreboard sb = playerScoreboards.remove(player.getUniqueId());
-        if (sb != null) {
-            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
-        }
+        PlayerData data = arena.getPlayerData(player);
+        if (data == null || data.getSlot() >= boards.length || boards[data.getSlot()] == null)
+            return;
+        viewers[data.getSlot()] = null;
+        boards[data.getSlot()] = null;
+        renderedLines[data.getSlot()] = null;
+        dirtyViewers.clear(data.getSlot());
+        boardCount--;
+        player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
     }
 }
@@ -9,7 +9,6 @@ import com.saratoga.snd.game.Bomb;
 import com.saratoga.snd.game.GameManager;
 import com.saratoga.snd.game.PlayerData;
 import com.saratoga.snd.game.Role;
-import org.bukkit.Location;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -17,7 +16,6 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -65,7 +63,7 @@ public class BombListener implements Listener {
             data.setHasBomb(true);
 
             // Give bomb item to player
-            ItemStack bombItem = new ItemStack(plugin.getMainConfig().getBombItem());
+            ItemStack bombItem = new ItemStack(arena.getProfile().bombItem());
             var meta = bombItem.getItemMeta();
             meta.displayName(net.kyori.adventure.text.Component.text("爆弾",
                     net.kyori.adventure.text.format.NamedTextColor.RED,
@@ -94,7 +92,7 @@ public class BombListener implements Listener {
 
         // Check if dropping bomb item
         ItemStack dropped = event.getItemDrop().getItemStack();
-        if (dropped.getType() == plugin.getMainConfig().getBombItem()) {
+        if (dropped.getType() == arena.getProfile().bombItem()) {
             event.setCancelled(true);
             // Don't allow manual dropping - only on death
         }
@@ -130,7 +128,7 @@ public class BombListener implements Listener {
         if (role == Role.ATTACKERS && data.hasBomb() && !bomb.isPlanted()) {
             // Check if actually holding bomb in main hand
             ItemStack mainHand = player.getInventory().getItemInMainHand();
-            if (mainHand.getType() == plugin.getMainConfig().getBombItem()) {
+            if (mainHand.getType() == arena.getProfile().bombItem()) {
                 handlePlanting(player, arena, game, bomb, data);
             }
         }
@@ -142,19 +140,15 @@ public class BombListener implements Listener {
 
     private void handlePlanting(Player player, SndArena arena, GameManager game, Bomb bomb, PlayerData data) {
         // Check if in bomb site
-        SndMap map = arena.getMap();
-        Location loc = player.getLocation();
-
-        String siteName = null;
-        for (var entry : map.getBombSites().entrySet()) {
-            if (entry.getValue().isInside(loc)) {
-                siteName = entry.getKey();
-                break;
-            }
+        SndMap.BombSite site = arena.getMap().findBombSite(player.getLocation());
+        if (site == null) {
+            Messages.send(player, Messages.NOT_IN_BOMB_SITE);
+            return;
         }
 
-        if (siteName == null) {
-            Messages.send(player, Messages.NOT_IN_BOMB_SITE);
+        // Per-site plant rules
+        if (site.requireOnGround() && !player.isOnGround()) {
+            Messages.send(player, Messages.MUST_BE_ON_GROUND);
             return;
         }
 
@@ -163,24 +157,22 @@ public class BombListener implements Listener {
             return;
         }
 
-        final String site = siteName;
         Messages.send(player, Messages.PLANTING_BOMB);
 
-        bomb.startPlanting(player.getUniqueId(), () -> {
-            // Planting complete
+        bomb.startPlanting(player, site, () -> {
+            // Planting complete; the round may have ended this tick, then the carrier keeps the bomb
+            if (!game.onBombPlanted(player, site.name(), player.getLocation()))
+                return;
             data.setHasBomb(false);
 
             // Remove bomb from inventory
-            player.getInventory().remove(plugin.getMainConfig().getBombItem());
-
-            game.onBombPlanted(site, player.getLocation());
+            player.getInventory().remove(arena.getProfile().bombItem());
         });
     }
 
     private void handleDefusing(Player player, SndArena arena, GameManager game, Bomb bomb) {
-        // Must be near planted bomb
-        Location bombLoc = bomb.getLocation();
-        if (player.getLocation().distanceSquared(bombLoc) > 9) { // 3 block radius
+        // Must be near and facing the planted bomb
+        if (!bomb.isDefusableFrom(player)) {
             return;
         }
 
@@ -190,34 +182,9 @@ public class BombListener implements Listener {
 
         Messages.send(player, Messages.DEFUSING_BOMB);
 
-        bomb.startDefusing(player.getUniqueId(), () -> {
+        bomb.startDefusing(player, () -> {
             // Defusing complete
-            game.onBombDefused();
+            game.onBombDefused(player);
         });
     }
-
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        // Cancel planting/defusing if player moves
-        if (!event.hasChangedBlock())
-            return;
-
-        Player player = event.getPlayer();
-        SndArena arena = plugin.getArenaManager().getPlayerArena(player);
-        if (arena == null)
-            return;
-
-        GameManager game = arena.getGameManager();
-        if (game == null)
-            return;
-
-        Bomb bomb = game.getBomb();
-        if (bomb == null)
-            return;
-
-        // Check if this player is planting or defusing
-        if (player.getUniqueId().equals(bomb.getActionPlayer())) {
-            bomb.cancelAction();
-        }
-    }
 }
@@ -0,0 +1,54 @@
+package com.saratoga.snd.listener;
+
+import com.saratoga.snd.SearchAndDestroy;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+/**
+ * Registers the gameplay listeners only while at least one arena has players,
+ * so an idle plugin adds no work to server-wide events.
+ */
+public class ListenerGate {
+
+    private final SearchAndDestroy plugin;
+    private final Listener[] listeners;
+    private volatile boolean active;
+
+    public ListenerGate(SearchAndDestroy plugin) {
+        this.plugin = plugin;
+        this.listeners = new Listener[] {
+                new PlayerListener(plugin),
+                new BombListener(plugin),
+                new ProtectionListener(plugin),
+                new ShopListener()
+        };
+    }
+
+    /**
+     * Register all listeners if not already registered.
+     */
+    public synchronized void activate() {
+        if (active)
+            return;
+        active = true;
+        for (Listener listener : listeners) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+        }
+    }
+
+    /**
+     * Unregister all listeners if registered.
+     */
+    public synchronized void deactivate() {
+        if (!active)
+            return;
+        active = false;
+        for (Listener listener : listeners) {
+            HandlerList.unregisterAll(listener);
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -6,23 +6,39 @@ import com.saratoga.snd.arena.ArenaState;
 import com.saratoga.snd.arena.SndArena;
 import com.saratoga.snd.game.GameManager;
 import com.saratoga.snd.game.PlayerData;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.entity.ThrowableProjectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityShootBowEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.RayTraceResult;
 
 /**
  * Handles player events in SND.
  */
 public class PlayerListener implements Listener {
 
+    // Hits this close to eye level count as headshots
+    private static final double HEAD_HALF_HEIGHT = 0.3;
+
     private final SearchAndDestroy plugin;
+    // Launcher type stamped on arrows when they are fired
+    private final NamespacedKey weaponKey;
 
     public PlayerListener(SearchAndDestroy plugin) {
         this.plugin = plugin;
+        this.weaponKey = new NamespacedKey(plugin, "weapon");
     }
 
     @EventHandler(priority = EventPriority.HIGH)
@@ -41,12 +57,7 @@ public class PlayerListener implements Listener {
         event.setKeepLevel(true);
         event.setDroppedExp(0);
 
-        // Execute kill commands if there's a killer
-        Player killer = player.getKiller();
         GameManager game = arena.getGameManager();
-        if (killer != null && game != null) {
-            game.executeKillCommands(killer, player);
-        }
 
         // Auto respawn after 1 tick to avoid issues
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -61,6 +72,75 @@ public class PlayerListener implements Listener {
         }
     }
 
+    /**
+     * Feed allowed player-on-player hits into the round's damage attribution.
+     * Runs after the protection checks have had their say.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerDamage(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player victim))
+            return;
+        Player attacker;
+        Location hit;
+        Material weapon;
+        if (event.getDamager() instanceof Player player) {
+            attacker = player;
+            hit = meleeHitPoint(player, victim);
+            ItemStack hand = player.getInventory().getItemInMainHand();
+            weapon = hand.getType().isAir() ? null : hand.getType();
+        } else if (event.getDamager() instanceof Projectile projectile
+                && projectile.getShooter() instanceof Player shooter) {
+            attacker = shooter;
+            hit = projectile.getLocation();
+            weapon = projectileWeapon(projectile);
+        } else {
+            return;
+        }
+
+        SndArena arena = plugin.getArenaManager().getPlayerArena(victim);
+        if (arena == null || arena.getGameManager() == null)
+            return;
+
+        boolean headshot = hit != null && hit.getY() >= victim.getEyeLocation().getY() - HEAD_HALF_HEIGHT;
+        double amount = Math.min(event.getFinalDamage(), victim.getHealth());
+        arena.getGameManager().onPlayerDamaged(attacker, victim, amount, weapon, headshot);
+    }
+
+    /**
+     * Remember which bow or crossbow fired an arrow, since the shooter may
+     * have switched items by the time it lands.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onShootBow(EntityShootBowEvent event) {
+        if (!(event.getEntity() instanceof Player player) || event.getBow() == null)
+            return;
+        if (!plugin.getArenaManager().isInArena(player))
+            return;
+        event.getProjectile().getPersistentDataContainer()
+                .set(weaponKey, PersistentDataType.STRING, event.getBow().getType().getKey().getKey());
+    }
+
+    /**
+     * The launcher stamped on a projectile, else the thrown item itself, or null.
+     */
+    private Material projectileWeapon(Projectile projectile) {
+        String launcher = projectile.getPersistentDataContainer().get(weaponKey, PersistentDataType.STRING);
+        if (launcher != null)
+            return Material.matchMaterial(launcher);
+        if (projectile instanceof ThrowableProjectile thrown)
+            return thrown.getItem().getType();
+        return null;
+    }
+
+    /**
+     * Where the attacker's view meets the victim's hitbox, or null.
+     */
+    private static Location meleeHitPoint(Player attacker, Player victim) {
+        Location eye = attacker.getEyeLocation();
+        RayTraceResult result = victim.getBoundingBox().rayTrace(eye.toVector(), eye.getDirection(), 6.0);
+        return result != null ? result.getHitPosition().toLocation(victim.getWorld()) : null;
+    }
+
     @EventHandler
     public void onPlayerRespawn(PlayerRespawnEvent event) {
         Player player = event.getPlayer();
@@ -1,13 +1,21 @@
 package com.saratoga.snd.listener;
 
+import com.destroystokyo.paper.event.block.BlockDestroyEvent;
 import com.saratoga.snd.SearchAndDestroy;
+import com.saratoga.snd.arena.ArenaState;
 import com.saratoga.snd.arena.SndArena;
+import org.bukkit.block.Block;
+import org.bukkit.entity.FallingBlock;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPhysicsEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.FoodLevelChangeEvent;
 
@@ -25,17 +33,90 @@ public class ProtectionListener implements Listener {
     @EventHandler(priority = EventPriority.HIGH)
     public void onBlockBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
-        if (plugin.getArenaManager().isInArena(player)) {
+        if (!plugin.getArenaManager().isInArena(player))
+            return;
+        SndArena arena = plugin.getArenaManager().getPlayerArena(player);
+        if (arena == null || arena.getState() != ArenaState.PLAYING
+                || !arena.getMap().isDestructible(event.getBlock().getType())) {
             event.setCancelled(true);
+            return;
         }
+        arena.getBlockLog().record(event.getBlock());
+        event.setDropItems(false);
+        event.setExpToDrop(0);
     }
 
     @EventHandler(priority = EventPriority.HIGH)
     public void onBlockPlace(BlockPlaceEvent event) {
         Player player = event.getPlayer();
-        if (plugin.getArenaManager().isInArena(player)) {
+        if (!plugin.getArenaManager().isInArena(player))
+            return;
+        SndArena arena = plugin.getArenaManager().getPlayerArena(player);
+        if (arena == null || arena.getState() != ArenaState.PLAYING
+                || !arena.getMap().isPlaceable(event.getBlockPlaced().getType())) {
             event.setCancelled(true);
+            return;
         }
+        arena.getBlockLog().record(event.getBlockPlaced(), event.getBlockReplacedState().getBlockData());
+    }
+
+    // Side effects of recorded changes. All of these fire before the block
+    // changes, so the recorded data is still the original.
+
+    /**
+     * Blocks popped by the server, e.g. a torch or carpet losing its support.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDestroy(BlockDestroyEvent event) {
+        if (recordSideEffect(event.getBlock())) {
+            event.setWillDrop(false);
+        }
+    }
+
+    /**
+     * Sand and gravel starting or ending a fall, among other entity changes.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        if (recordSideEffect(event.getBlock()) && event.getEntity() instanceof FallingBlock falling) {
+            // Landing on a torch or slab would drop it as an item
+            falling.setDropItem(false);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidFlow(BlockFromToEvent event) {
+        recordSideEffect(event.getToBlock());
+    }
+
+    /**
+     * Cobblestone and obsidian from fluids, snow, fire spread and the like.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        recordSideEffect(event.getBlock());
+    }
+
+    /**
+     * Shape and state updates of neighbours (doors, fences, stairs, redstone).
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPhysics(BlockPhysicsEvent event) {
+        recordSideEffect(event.getBlock());
+    }
+
+    /**
+     * Record a block changed as a side effect, if it is next to an arena's
+     * recorded changes.
+     *
+     * @return true if it was recorded
+     */
+    private boolean recordSideEffect(Block block) {
+        SndArena arena = plugin.getArenaManager().getArenaChangedNear(block);
+        if (arena == null)
+            return false;
+        arena.getBlockLog().record(block);
+        return true;
     }
 
     @EventHandler
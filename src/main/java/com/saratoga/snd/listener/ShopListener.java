@@ -0,0 +1,43 @@
+package com.saratoga.snd.listener;
+
+import com.saratoga.snd.game.BuyMenu;
+import com.saratoga.snd.game.GameManager;
+import com.saratoga.snd.game.Loadouts;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+
+/**
+ * Clicks in the buy menu.
+ */
+public class ShopListener implements Listener {
+
+    @EventHandler
+    public void onClick(InventoryClickEvent event) {
+        if (!(event.getInventory().getHolder(false) instanceof BuyMenu menu))
+            return;
+        event.setCancelled(true);
+        if (!(event.getWhoClicked() instanceof Player player))
+            return;
+        // Only clicks in the menu itself, not the player's own inventory
+        if (event.getClickedInventory() != event.getInventory())
+            return;
+
+        Loadouts.ShopItem item = menu.getItem(event.getSlot());
+        GameManager game = menu.getArena().getGameManager();
+        if (item == null || game == null)
+            return;
+        if (game.buy(player, item)) {
+            menu.updateMoney();
+        }
+    }
+
+    @EventHandler
+    public void onDrag(InventoryDragEvent event) {
+        if (event.getInventory().getHolder(false) instanceof BuyMenu) {
+            event.setCancelled(true);
+        }
+    }
+}